@@ -0,0 +1,128 @@
+package com.gameadvisor.client.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게임별 캡쳐 프로필
+ * 게임 클라이언트 영역 중 실제로 분석에 필요한 관심 영역(ROI)만 캡쳐하기 위한 설정
+ * 좌표는 클라이언트 영역 기준 0.0 ~ 1.0 으로 정규화된 값
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class CaptureProfile {
+
+    private String gameName;
+    private List<Region> regions = new ArrayList<>();
+    private boolean grayscale;
+    private boolean indexedColor;
+
+    public CaptureProfile() {}
+
+    public CaptureProfile(String gameName, List<Region> regions, boolean grayscale) {
+        this.gameName = gameName;
+        this.regions = regions != null ? regions : new ArrayList<>();
+        this.grayscale = grayscale;
+    }
+
+    public String getGameName() {
+        return gameName;
+    }
+
+    public void setGameName(String gameName) {
+        this.gameName = gameName;
+    }
+
+    public List<Region> getRegions() {
+        return regions;
+    }
+
+    public void setRegions(List<Region> regions) {
+        this.regions = regions != null ? regions : new ArrayList<>();
+    }
+
+    public boolean isGrayscale() {
+        return grayscale;
+    }
+
+    public void setGrayscale(boolean grayscale) {
+        this.grayscale = grayscale;
+    }
+
+    public boolean isIndexedColor() {
+        return indexedColor;
+    }
+
+    public void setIndexedColor(boolean indexedColor) {
+        this.indexedColor = indexedColor;
+    }
+
+    // 관심 영역이 없으면 전체 클라이언트 영역을 캡쳐
+    public boolean hasRegions() {
+        return regions != null && !regions.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "CaptureProfile{" +
+                "gameName='" + gameName + '\'' +
+                ", regions=" + regions +
+                ", grayscale=" + grayscale +
+                ", indexedColor=" + indexedColor +
+                '}';
+    }
+
+    /**
+     * 정규화된 관심 영역 (클라이언트 영역 대비 비율)
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Region {
+        private double x;
+        private double y;
+        private double width;
+        private double height;
+
+        public Region() {}
+
+        public Region(double x, double y, double width, double height) {
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+        }
+
+        public double getX() { return x; }
+        public void setX(double x) { this.x = x; }
+        public double getY() { return y; }
+        public void setY(double y) { this.y = y; }
+        public double getWidth() { return width; }
+        public void setWidth(double width) { this.width = width; }
+        public double getHeight() { return height; }
+        public void setHeight(double height) { this.height = height; }
+
+        /**
+         * 실제 클라이언트 영역 크기에 맞춰 픽셀 좌표로 변환 (영역 밖으로 나가지 않도록 보정)
+         */
+        public java.awt.Rectangle toPixels(java.awt.Rectangle clientRect) {
+            int left = (int) Math.floor(clamp(x) * clientRect.width);
+            int top = (int) Math.floor(clamp(y) * clientRect.height);
+            int right = (int) Math.ceil(clamp(x + width) * clientRect.width);
+            int bottom = (int) Math.ceil(clamp(y + height) * clientRect.height);
+            return new java.awt.Rectangle(
+                clientRect.x + left,
+                clientRect.y + top,
+                Math.max(1, right - left),
+                Math.max(1, bottom - top)
+            );
+        }
+
+        private static double clamp(double v) {
+            return Math.max(0.0, Math.min(1.0, v));
+        }
+
+        @Override
+        public String toString() {
+            return String.format("(%.3f,%.3f %.3fx%.3f)", x, y, width, height);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.gameadvisor.client.model;
+
+/**
+ * 캡쳐 이미지 인코딩 품질 설정 (해상도 배율 + 코덱 + JPEG 품질)
+ */
+public class CaptureQuality {
+
+    public static final String FORMAT_PNG = "png";
+    public static final String FORMAT_JPEG = "jpeg";
+
+    // 원본 해상도 무손실 PNG (기존 동작)
+    public static final CaptureQuality ORIGINAL = new CaptureQuality(0, 1.0, FORMAT_PNG, 1.0f);
+    // 빠른 1차 분석용 썸네일 (적응형 품질 단계에 속하지 않음)
+    public static final CaptureQuality THUMBNAIL = new CaptureQuality(-1, 0.25, FORMAT_JPEG, 0.6f);
+
+    private final int level;
+    private final double scale;
+    private final String format;
+    private final float jpegQuality;
+
+    public CaptureQuality(int level, double scale, String format, float jpegQuality) {
+        this.level = level;
+        this.scale = scale;
+        this.format = format;
+        this.jpegQuality = jpegQuality;
+    }
+
+    public int getLevel() { return level; }
+    public double getScale() { return scale; }
+    public String getFormat() { return format; }
+    public float getJpegQuality() { return jpegQuality; }
+
+    public boolean isJpeg() {
+        return FORMAT_JPEG.equals(format);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CaptureQuality{level=%d, scale=%.2f, format=%s, quality=%.2f}",
+                level, scale, format, jpegQuality);
+    }
+}
@@ -13,6 +13,9 @@ public class Game {
     private String vectorTableName;
     private Boolean isActive;
     private String description;
+    private CaptureProfile captureProfile;
+    // 서버의 현재 게임 팁 버전 (로컬에 같은 버전이 있으면 팁을 다시 받지 않음, 없으면 null)
+    private Long tipsVersion;
 
     // Getters
     public Long getId() {
@@ -43,6 +46,14 @@ public class Game {
         return description;
     }
 
+    public CaptureProfile getCaptureProfile() {
+        return captureProfile;
+    }
+
+    public Long getTipsVersion() {
+        return tipsVersion;
+    }
+
     // Setters
     public void setId(Long id) {
         this.id = id;
@@ -72,6 +83,14 @@ public class Game {
         this.description = description;
     }
 
+    public void setCaptureProfile(CaptureProfile captureProfile) {
+        this.captureProfile = captureProfile;
+    }
+
+    public void setTipsVersion(Long tipsVersion) {
+        this.tipsVersion = tipsVersion;
+    }
+
     // 편의 메서드들
     public boolean isSupported() {
         return Boolean.TRUE.equals(isActive);
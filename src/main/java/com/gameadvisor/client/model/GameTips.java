@@ -0,0 +1,51 @@
+package com.gameadvisor.client.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게임별 팁 (서버 /games/{id}/tips 응답)
+ * version은 서버가 팁 내용을 바꿀 때마다 올림 (게임 목록의 tipsVersion과 같으면 다시 받지 않음)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class GameTips {
+
+    private Long gameId;
+    private Long version;
+    private List<String> tips = new ArrayList<>();
+
+    public Long getGameId() {
+        return gameId;
+    }
+
+    public void setGameId(Long gameId) {
+        this.gameId = gameId;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public List<String> getTips() {
+        return tips;
+    }
+
+    public void setTips(List<String> tips) {
+        this.tips = tips != null ? tips : new ArrayList<>();
+    }
+
+    public boolean isEmpty() {
+        return tips.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "GameTips{gameId=" + gameId + ", version=" + version + ", tips=" + tips.size() + "개}";
+    }
+}
@@ -0,0 +1,63 @@
+package com.gameadvisor.client.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * 서버 푸시 메시지 (WebSocket 텍스트 프레임 하나, JSON)
+ * - advice: 서버가 먼저 보내는 조언 (gameName이 없으면 모든 게임 대상)
+ * - catalog: 게임 목록/게임 팁이 바뀜 (클라이언트가 다시 조회)
+ * - health: 서버 상태 (status: ok / degraded)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class PushMessage {
+
+    public static final String ADVICE = "advice";
+    public static final String CATALOG = "catalog";
+    public static final String HEALTH = "health";
+
+    private String type;
+    private String gameName;
+    private String message;
+    private String status;
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getGameName() {
+        return gameName;
+    }
+
+    public void setGameName(String gameName) {
+        this.gameName = gameName;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public boolean is(String type) {
+        return type.equals(this.type);
+    }
+
+    @Override
+    public String toString() {
+        return "PushMessage{type='" + type + "', gameName='" + gameName + "', status='" + status + "'}";
+    }
+}
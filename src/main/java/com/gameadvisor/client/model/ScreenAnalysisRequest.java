@@ -1,27 +1,48 @@
 package com.gameadvisor.client.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.util.Base64;
+
 /**
  * 화면 분석 요청 모델
  */
 public class ScreenAnalysisRequest {
-    private String imageBase64;
+    public static final String PHASE_QUICK = "quick";
+    public static final String PHASE_FULL = "full";
+    
+    // 인코딩된 이미지(PNG/JPEG) 원본 바이트 - Base64는 JSON 본문으로 보낼 때만 만듦
+    private byte[] imageBytes;
     private String gameName;
     private String additionalContext;
+    private String imageFormat = "png";
+    // 분석 단계: quick(썸네일 기반 빠른 1차 분석) / full(원본 기반 상세 분석)
+    private String analysisPhase = PHASE_FULL;
+    // 캡쳐 프레임의 차이 해시(dHash) - 같은 화면의 중복 요청을 묶는 데만 사용하고 서버로 보내지 않음
+    @JsonIgnore
+    private Long frameHash;
     
     public ScreenAnalysisRequest() {}
     
-    public ScreenAnalysisRequest(String imageBase64, String gameName, String additionalContext) {
-        this.imageBase64 = imageBase64;
+    public ScreenAnalysisRequest(byte[] imageBytes, String gameName, String additionalContext) {
+        this.imageBytes = imageBytes;
         this.gameName = gameName;
         this.additionalContext = additionalContext;
     }
     
+    public ScreenAnalysisRequest(String imageBase64, String gameName, String additionalContext) {
+        this(imageBase64 != null ? Base64.getDecoder().decode(imageBase64) : null, gameName, additionalContext);
+    }
+    
+    /**
+     * JSON 본문용 Base64 이미지 (호출할 때마다 인코딩하므로 직렬화 외에는 getImageBytes 사용)
+     */
     public String getImageBase64() {
-        return imageBase64;
+        return imageBytes != null ? Base64.getEncoder().encodeToString(imageBytes) : null;
     }
     
     public void setImageBase64(String imageBase64) {
-        this.imageBase64 = imageBase64;
+        this.imageBytes = imageBase64 != null ? Base64.getDecoder().decode(imageBase64) : null;
     }
     
     public String getGameName() {
@@ -39,4 +60,43 @@ public class ScreenAnalysisRequest {
     public void setAdditionalContext(String additionalContext) {
         this.additionalContext = additionalContext;
     }
+    
+    public String getImageFormat() {
+        return imageFormat;
+    }
+    
+    public void setImageFormat(String imageFormat) {
+        this.imageFormat = imageFormat;
+    }
+    
+    public String getAnalysisPhase() {
+        return analysisPhase;
+    }
+    
+    public void setAnalysisPhase(String analysisPhase) {
+        this.analysisPhase = analysisPhase;
+    }
+    
+    /**
+     * 이미지 원본 바이트 (바이너리 본문 형식에서 Base64 대신 전송, JSON에는 포함하지 않음)
+     */
+    @JsonIgnore
+    public byte[] getImageBytes() {
+        return imageBytes;
+    }
+    
+    @JsonIgnore
+    public void setImageBytes(byte[] imageBytes) {
+        this.imageBytes = imageBytes;
+    }
+    
+    @JsonIgnore
+    public Long getFrameHash() {
+        return frameHash;
+    }
+    
+    @JsonIgnore
+    public void setFrameHash(Long frameHash) {
+        this.frameHash = frameHash;
+    }
 } 
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.gameadvisor.client.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 /**
  * 화면 분석 응답 모델
  */
@@ -11,6 +13,11 @@ public class ScreenAnalysisResponse {
     private String timestamp;
     private boolean success;
     private String errorMessage;
+    // quick 단계 응답에서 서버가 원본 프레임 필요 여부를 알려줌 (null이면 필요로 간주)
+    private Boolean needsFullFrame;
+    // 서버 대신 클라이언트 분석 결과 캐시에서 가져온 응답 (서버로 주고받지 않음)
+    @JsonIgnore
+    private boolean cached;
     
     public ScreenAnalysisResponse() {}
     
@@ -69,4 +76,22 @@ public class ScreenAnalysisResponse {
     public void setErrorMessage(String errorMessage) {
         this.errorMessage = errorMessage;
     }
+    
+    public Boolean getNeedsFullFrame() {
+        return needsFullFrame;
+    }
+    
+    public void setNeedsFullFrame(Boolean needsFullFrame) {
+        this.needsFullFrame = needsFullFrame;
+    }
+    
+    @JsonIgnore
+    public boolean isCached() {
+        return cached;
+    }
+    
+    @JsonIgnore
+    public void setCached(boolean cached) {
+        this.cached = cached;
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,91 @@
+package com.gameadvisor.client.model;
+
+/**
+ * 연속 화면(멀티 프레임) 분석 요청 모델
+ * 일정 간격으로 캡쳐한 축소 프레임 묶음을 하나의 압축 페이로드로 전송
+ * (적 러시, 연계 콤보 등 한 장의 화면으로는 파악하기 어려운 상황 분석용)
+ */
+public class ScreenSequenceRequest {
+    // 공유 팔레트 + 이전 프레임과의 XOR 차분 + Deflate 압축
+    public static final String ENCODING_INDEXED_XOR_DEFLATE = "indexed-xor-deflate";
+
+    private String gameName;
+    private String additionalContext;
+    private int frameCount;
+    private int frameWidth;
+    private int frameHeight;
+    private long intervalMillis;
+    private String encoding = ENCODING_INDEXED_XOR_DEFLATE;
+    private String sequenceBase64;
+
+    public ScreenSequenceRequest() {}
+
+    public ScreenSequenceRequest(String gameName, String additionalContext) {
+        this.gameName = gameName;
+        this.additionalContext = additionalContext;
+    }
+
+    public String getGameName() {
+        return gameName;
+    }
+
+    public void setGameName(String gameName) {
+        this.gameName = gameName;
+    }
+
+    public String getAdditionalContext() {
+        return additionalContext;
+    }
+
+    public void setAdditionalContext(String additionalContext) {
+        this.additionalContext = additionalContext;
+    }
+
+    public int getFrameCount() {
+        return frameCount;
+    }
+
+    public void setFrameCount(int frameCount) {
+        this.frameCount = frameCount;
+    }
+
+    public int getFrameWidth() {
+        return frameWidth;
+    }
+
+    public void setFrameWidth(int frameWidth) {
+        this.frameWidth = frameWidth;
+    }
+
+    public int getFrameHeight() {
+        return frameHeight;
+    }
+
+    public void setFrameHeight(int frameHeight) {
+        this.frameHeight = frameHeight;
+    }
+
+    public long getIntervalMillis() {
+        return intervalMillis;
+    }
+
+    public void setIntervalMillis(long intervalMillis) {
+        this.intervalMillis = intervalMillis;
+    }
+
+    public String getEncoding() {
+        return encoding;
+    }
+
+    public void setEncoding(String encoding) {
+        this.encoding = encoding;
+    }
+
+    public String getSequenceBase64() {
+        return sequenceBase64;
+    }
+
+    public void setSequenceBase64(String sequenceBase64) {
+        this.sequenceBase64 = sequenceBase64;
+    }
+}
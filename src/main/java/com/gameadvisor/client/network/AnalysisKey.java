@@ -0,0 +1,51 @@
+package com.gameadvisor.client.network;
+
+import com.gameadvisor.client.model.ScreenAnalysisRequest;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 분석 요청 묶음 키: 게임 + 분석 단계 + 화면 지문 + 프롬프트
+ * 화면 지문은 캡쳐 시 계산한 차이 해시(dHash)를 사용하여 거의 같은 화면도 같은 키가 되고,
+ * 해시가 없는 요청(스풀 재전송 등)은 인코딩된 이미지 자체로 비교 (키는 요청이 진행 중일 때만 보관)
+ */
+final class AnalysisKey {
+
+    private final String gameName;
+    private final String analysisPhase;
+    private final Long frameHash;
+    private final byte[] image;
+    private final String prompt;
+
+    private AnalysisKey(String gameName, String analysisPhase, Long frameHash, byte[] image, String prompt) {
+        this.gameName = gameName;
+        this.analysisPhase = analysisPhase;
+        this.frameHash = frameHash;
+        this.image = image;
+        this.prompt = prompt;
+    }
+
+    static AnalysisKey of(ScreenAnalysisRequest request) {
+        Long frameHash = request.getFrameHash();
+        return new AnalysisKey(request.getGameName(), request.getAnalysisPhase(), frameHash,
+            frameHash == null ? request.getImageBytes() : null, request.getAdditionalContext());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof AnalysisKey)) return false;
+        AnalysisKey other = (AnalysisKey) o;
+        return Objects.equals(frameHash, other.frameHash)
+            && Objects.equals(gameName, other.gameName)
+            && Objects.equals(analysisPhase, other.analysisPhase)
+            && Objects.equals(prompt, other.prompt)
+            && Arrays.equals(image, other.image);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Objects.hash(gameName, analysisPhase, frameHash, prompt) + Arrays.hashCode(image);
+    }
+}
@@ -0,0 +1,283 @@
+package com.gameadvisor.client.network;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gameadvisor.client.model.ScreenAnalysisRequest;
+import com.gameadvisor.client.model.ScreenAnalysisResponse;
+import com.gameadvisor.client.util.PixelKernels;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * 화면 분석 결과 캐시 (게임 + 분석 단계 + 프롬프트 버전/내용 + 화면 지문)
+ * 상점, 덱 편성, 웨이브 시작 화면처럼 세션 중 반복되는 화면은 서버 왕복 없이 바로 응답
+ * 화면 지문(dHash)의 해밍 거리가 기준 이하이면 거의 같은 화면으로 보고 적중 처리하며,
+ * 적중한 응답은 isCached()가 true인 복사본으로 돌려줌
+ * 응답 JSON 크기 기준으로 용량을 계산해 초과 시 가장 오래 안 쓴 것부터 삭제(LRU)
+ *
+ * -Dgameadvisor.cache.maxBytes=2097152 (0이면 캐시 사용 안 함)
+ * -Dgameadvisor.cache.ttlSeconds=1800
+ * -Dgameadvisor.cache.maxHashDistance=3 (거의 같은 화면으로 볼 dHash 해밍 거리)
+ * -Dgameadvisor.cache.promptVersion=1 (프롬프트/모델 변경 시 올려 이전 결과 무효화)
+ * -Dgameadvisor.cache.persist=false (true면 종료 시 ~/.gameadvisor/analysis-cache.json에 저장하고 처음 조회할 때 복원)
+ */
+public class AnalysisResultCache {
+
+    private static final AnalysisResultCache INSTANCE = new AnalysisResultCache(
+        Paths.get(System.getProperty("user.home"), ".gameadvisor", "analysis-cache.json"),
+        Long.getLong("gameadvisor.cache.maxBytes", 2L * 1024 * 1024)
+    );
+
+    // 키 문자열/객체 헤더 등 응답 본문 외 항목당 대략의 크기
+    private static final int ENTRY_OVERHEAD_BYTES = 128;
+
+    /**
+     * 캐시 항목 (디스크 저장 형식 겸용)
+     */
+    static class Entry {
+        public String gameName;
+        public String analysisPhase;
+        public String promptVersion;
+        public String prompt;
+        public long frameHash;
+        public long createdAtMillis;
+        public int bytes;
+        public ScreenAnalysisResponse response;
+
+        String key() {
+            return keyOf(gameName, analysisPhase, promptVersion, prompt, frameHash);
+        }
+
+        boolean sameContext(String gameName, String analysisPhase, String promptVersion, String prompt) {
+            return gameName.equals(this.gameName) && analysisPhase.equals(this.analysisPhase)
+                && promptVersion.equals(this.promptVersion) && prompt.equals(this.prompt);
+        }
+    }
+
+    private final Path file;
+    private final long maxBytes;
+    private final long ttlMillis = Long.getLong("gameadvisor.cache.ttlSeconds", 1800L) * 1000;
+    private final int maxHashDistance = Integer.getInteger("gameadvisor.cache.maxHashDistance", 3);
+    private final String promptVersion = System.getProperty("gameadvisor.cache.promptVersion", "1");
+    private final boolean persist = Boolean.getBoolean("gameadvisor.cache.persist");
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    // 접근 순서 유지 (가장 오래 안 쓴 항목이 앞)
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+    // 디스크 복원 여부 (싱글톤 초기화가 JavaFX 스레드에서 일어나도 디스크를 읽지 않도록 첫 조회/저장 때 복원)
+    private boolean loaded;
+
+    // 지표
+    private long hitCount;
+    private long nearHitCount;
+    private long missCount;
+    private long evictionCount;
+
+    AnalysisResultCache(Path file, long maxBytes) {
+        this.file = file;
+        this.maxBytes = maxBytes;
+    }
+
+    public static AnalysisResultCache getInstance() {
+        return INSTANCE;
+    }
+
+    private static String keyOf(String gameName, String analysisPhase, String promptVersion, String prompt, long frameHash) {
+        return gameName + '\u0000' + analysisPhase + '\u0000' + promptVersion + '\u0000' + prompt + '\u0000' + frameHash;
+    }
+
+    private boolean cacheable(ScreenAnalysisRequest request) {
+        // 화면 지문이 없는 요청(스풀 재전송 등)은 캐시하지 않음
+        return maxBytes > 0 && request.getFrameHash() != null && request.getGameName() != null;
+    }
+
+    /**
+     * 같은(또는 거의 같은) 화면의 저장된 결과 (없으면 null)
+     */
+    ScreenAnalysisResponse get(ScreenAnalysisRequest request) {
+        if (!cacheable(request)) return null;
+        ensureLoaded();
+        String gameName = request.getGameName();
+        String phase = String.valueOf(request.getAnalysisPhase());
+        String prompt = String.valueOf(request.getAdditionalContext());
+        long frameHash = request.getFrameHash();
+        long now = System.currentTimeMillis();
+
+        Entry found;
+        int distance = 0;
+        synchronized (this) {
+            found = entries.get(keyOf(gameName, phase, promptVersion, prompt, frameHash));
+            if (found == null && maxHashDistance > 0) {
+                // 해밍 거리가 가장 가까운 항목 (캐시 크기가 작아 전체 탐색)
+                int best = maxHashDistance + 1;
+                for (Entry entry : entries.values()) {
+                    if (!entry.sameContext(gameName, phase, promptVersion, prompt) || isExpired(entry, now)) continue;
+                    int d = PixelKernels.hammingDistance(frameHash, entry.frameHash);
+                    if (d < best) {
+                        best = d;
+                        found = entry;
+                    }
+                }
+                if (found != null) {
+                    distance = best;
+                    // LRU 순서 갱신
+                    entries.get(found.key());
+                }
+            }
+            if (found != null && isExpired(found, now)) {
+                remove(found);
+                found = null;
+            }
+            if (found == null) {
+                missCount++;
+                return null;
+            }
+            if (distance == 0) {
+                hitCount++;
+            } else {
+                nearHitCount++;
+            }
+        }
+        System.out.println("[DEBUG] 분석 결과 캐시 적중 (" + phase + ", 해밍 거리 " + distance + ", " +
+            (now - found.createdAtMillis) / 1000 + "초 전 결과): " + stats());
+        return cachedCopy(found.response);
+    }
+
+    /**
+     * 성공한 분석 결과 저장
+     */
+    void put(ScreenAnalysisRequest request, ScreenAnalysisResponse response) {
+        if (!cacheable(request) || response == null || !response.isSuccess() || response.isCached()) return;
+        Entry entry = new Entry();
+        entry.gameName = request.getGameName();
+        entry.analysisPhase = String.valueOf(request.getAnalysisPhase());
+        entry.promptVersion = promptVersion;
+        entry.prompt = String.valueOf(request.getAdditionalContext());
+        entry.frameHash = request.getFrameHash();
+        entry.createdAtMillis = System.currentTimeMillis();
+        entry.response = response;
+        try {
+            entry.bytes = mapper.writeValueAsBytes(response).length + entry.prompt.length() + ENTRY_OVERHEAD_BYTES;
+        } catch (IOException e) {
+            return;
+        }
+        if (entry.bytes > maxBytes) return;
+        ensureLoaded();
+        synchronized (this) {
+            insert(entry);
+        }
+    }
+
+    private void insert(Entry entry) {
+        Entry previous = entries.put(entry.key(), entry);
+        if (previous != null) {
+            totalBytes -= previous.bytes;
+        }
+        totalBytes += entry.bytes;
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            Entry eldest = iterator.next();
+            iterator.remove();
+            totalBytes -= eldest.bytes;
+            evictionCount++;
+        }
+    }
+
+    private void remove(Entry entry) {
+        if (entries.remove(entry.key()) != null) {
+            totalBytes -= entry.bytes;
+        }
+    }
+
+    private boolean isExpired(Entry entry, long now) {
+        return now - entry.createdAtMillis > ttlMillis;
+    }
+
+    private static ScreenAnalysisResponse cachedCopy(ScreenAnalysisResponse source) {
+        ScreenAnalysisResponse copy = new ScreenAnalysisResponse();
+        copy.setAnalysis(source.getAnalysis());
+        copy.setAdvice(source.getAdvice());
+        copy.setCharacterName(source.getCharacterName());
+        copy.setGameContext(source.getGameContext());
+        copy.setTimestamp(source.getTimestamp());
+        copy.setSuccess(source.isSuccess());
+        copy.setErrorMessage(source.getErrorMessage());
+        copy.setNeedsFullFrame(source.getNeedsFullFrame());
+        copy.setCached(true);
+        return copy;
+    }
+
+    /**
+     * 디스크에 저장 (gameadvisor.cache.persist=true일 때만, 만료되지 않은 항목을 오래된 순으로)
+     */
+    public void save() {
+        if (!persist || maxBytes <= 0) return;
+        List<Entry> snapshot;
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            // 한 번도 쓰지 않았으면 파일 내용이 그대로이므로 빈 목록으로 덮어쓰지 않음
+            if (!loaded) return;
+            snapshot = new ArrayList<>();
+            for (Entry entry : entries.values()) {
+                if (!isExpired(entry, now)) snapshot.add(entry);
+            }
+        }
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                mapper.writeValue(out, snapshot);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            System.out.println("[DEBUG] 분석 결과 캐시 저장: " + snapshot.size() + "건");
+        } catch (IOException e) {
+            System.err.println("분석 결과 캐시 저장 실패: " + e.getMessage());
+        }
+    }
+
+    private synchronized void ensureLoaded() {
+        if (loaded) return;
+        loaded = true;
+        if (persist && maxBytes > 0) {
+            load();
+        }
+    }
+
+    private void load() {
+        if (!Files.isRegularFile(file)) return;
+        try {
+            List<Entry> loaded = mapper.readValue(file.toFile(), new TypeReference<List<Entry>>() {});
+            long now = System.currentTimeMillis();
+            int restored = 0;
+            synchronized (this) {
+                for (Entry entry : loaded) {
+                    // 프롬프트 버전이 바뀌었거나 만료된 결과는 버림
+                    if (entry.response == null || !promptVersion.equals(entry.promptVersion) || isExpired(entry, now)) continue;
+                    insert(entry);
+                    restored++;
+                }
+            }
+            System.out.println("[DEBUG] 분석 결과 캐시 복원: " + restored + "/" + loaded.size() + "건");
+        } catch (IOException e) {
+            System.err.println("분석 결과 캐시 읽기 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 캐시 현황 문자열
+     */
+    public synchronized String stats() {
+        return String.format("%d건 %dKB/%dKB, 적중 %d (유사 화면 %d), 실패 %d, 삭제 %d",
+            entries.size(), totalBytes / 1024, maxBytes / 1024, hitCount + nearHitCount, nearHitCount, missCount, evictionCount);
+    }
+}
@@ -1,76 +1,725 @@
 package com.gameadvisor.client.network;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import okhttp3.*;
+import okio.BufferedSource;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import com.gameadvisor.client.model.Game;
+import com.gameadvisor.client.model.GameTips;
 import com.gameadvisor.client.model.ScreenAnalysisRequest;
 import com.gameadvisor.client.model.ScreenAnalysisResponse;
+import com.gameadvisor.client.model.ScreenSequenceRequest;
+import com.gameadvisor.client.network.RequestScheduler.Priority;
 
+/**
+ * 어드바이스 서버 API 클라이언트 (프로세스 전체에서 하나의 인스턴스를 공유)
+ * 동기 메서드(execute)와 비동기 메서드(enqueue 기반 CompletableFuture)를 함께 제공
+ * 비동기 메서드가 반환한 future를 취소하거나 타임아웃되면 실제 HTTP 호출도 중단됨
+ * JSON은 JsonCodec으로 Okio 소스/싱크에서 바로 읽고 씀 (서버와 협상되면 분석 요청/응답과 게임 목록은 Smile)
+ * 모든 네트워크 호출은 서킷 브레이커를 거치며, 서버가 죽어 있으면 바로 CircuitBreaker.OpenException으로 실패
+ * 호출은 우선순위(화면 분석 > 게임 목록/재전송 > 연결 확인)별로 RequestScheduler를 거쳐 시작됨
+ */
 public class ApiClient {
-    private final OkHttpClient client;
-    private final ObjectMapper mapper = new ObjectMapper();
-    private static final String BASE_URL = "http://192.168.75.232:8080/api";
-
-    public ApiClient() {
-        // 타임아웃 설정을 늘려서 이미지 분석 요청을 처리할 수 있도록 함
-        this.client = new OkHttpClient.Builder()
-                .connectTimeout(30, TimeUnit.SECONDS)
-                .writeTimeout(60, TimeUnit.SECONDS)
-                .readTimeout(60, TimeUnit.SECONDS)
-                .build();
+    private static final ApiClient INSTANCE = new ApiClient(EndpointSelector.getInstance(), AnalysisResultCache.getInstance());
+    private static final MediaType NDJSON = MediaType.get("application/x-ndjson");
+
+    /**
+     * 서버가 성공이 아닌 상태 코드로 응답한 요청
+     */
+    public static class HttpStatusException extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        private final int code;
+
+        public HttpStatusException(String message, int code) {
+            super(message + ": " + code);
+            this.code = code;
+        }
+
+        public int getCode() {
+            return code;
+        }
+
+        /**
+         * 서버가 요청 자체를 거절했는지 (4xx, 다시 보내도 같은 결과)
+         * 요청 시간 초과(408)와 요청 제한(429)은 잠시 후 다시 보내면 성공할 수 있으므로 제외
+         */
+        public boolean isRejected() {
+            return code >= 400 && code < 500 && code != 408 && code != 429;
+        }
+    }
+
+    /**
+     * 서버에 스트리밍 분석 엔드포인트가 없음 (404/405, 일반 분석으로 다시 요청하면 됨)
+     */
+    public static class StreamingUnsupportedException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        public StreamingUnsupportedException(int code) {
+            super("서버가 스트리밍 분석을 지원하지 않습니다: " + code);
+        }
+    }
+
+    // 요청 보낼 서버 선택 (-Dgameadvisor.server.baseUrl 또는 baseUrls로 설정)
+    private final EndpointSelector endpoints;
+    // 게임 이름 -> 벡터 테이블 이름 (서버 고정 배정 키, 게임 목록을 받을 때 갱신)
+    private final Map<String, String> vectorTables = new ConcurrentHashMap<>();
+
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker("advice-server", this::probe);
+    // 같은 게임/화면/프롬프트의 분석 요청이 겹치면 한 번만 전송
+    private final SingleFlight<AnalysisKey, ScreenAnalysisResponse> analysisFlights = new SingleFlight<>("분석 요청 묶음");
+    // 같은(거의 같은) 화면의 이전 분석 결과
+    private final AnalysisResultCache resultCache;
+    // 우선순위별 동시 실행 제한 (백그라운드 요청이 화면 분석을 지연시키지 않도록)
+    private final RequestScheduler scheduler = RequestScheduler.getInstance();
+
+    // 공유 클라이언트에 서버 선택 인터셉터를 더한 클라이언트 (연결 풀/디스패처/디스크 캐시는 공유)
+    private final OkHttpClient catalogClient;
+    private final OkHttpClient analysisClient;
+    private final OkHttpClient pingClient;
+
+    ApiClient(EndpointSelector endpoints, AnalysisResultCache resultCache) {
+        this.endpoints = endpoints;
+        this.resultCache = resultCache;
+        this.catalogClient = withEndpoints(SharedHttpClient.forCatalog());
+        this.analysisClient = withEndpoints(SharedHttpClient.forAnalysis());
+        this.pingClient = withEndpoints(SharedHttpClient.forPing());
+    }
+
+    /**
+     * 서버별 진행 중 요청/응답 시간/실패를 기록하는 인터셉터를 맨 앞에 추가
+     * (압축/본문 형식 거절로 같은 서버에 재전송하는 것은 한 요청으로 기록)
+     */
+    private OkHttpClient withEndpoints(OkHttpClient client) {
+        OkHttpClient.Builder builder = client.newBuilder();
+        builder.interceptors().add(0, endpoints.interceptor());
+        return builder.build();
+    }
+
+    public static ApiClient getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * 서버 연결 상태 (OPEN이면 요청이 바로 실패하고, 백오프 후 자동으로 연결 확인)
+     */
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
     }
 
     public List<Game> getGames() throws Exception {
-        Request request = new Request.Builder().url(BASE_URL + "/games").build();
-        try (Response response = client.newCall(request).execute()) {
-            if (!response.isSuccessful()) {
-                System.err.println("Failed to fetch game list: " + response);
-                return new ArrayList<>();
+        return execute(catalogClient, gamesRequest(), Priority.BACKGROUND, this::readGames);
+    }
+
+    public CompletableFuture<List<Game>> getGamesAsync() {
+        return enqueue(catalogClient, gamesRequest(), Priority.BACKGROUND, this::readGames);
+    }
+
+    /**
+     * 디스크 캐시에 저장된 게임 목록 (네트워크 요청 없음, 캐시가 없으면 빈 목록)
+     * 서버가 여러 개면 설정 순서대로 캐시된 목록을 찾음
+     */
+    public List<Game> getCachedGames() {
+        for (EndpointSelector.Endpoint endpoint : endpoints.all()) {
+            Request request = new Request.Builder()
+                    .url(endpoint.url("/games"))
+                    .cacheControl(CacheControl.FORCE_CACHE)
+                    .build();
+            try {
+                List<Game> games = execute(catalogClient, request, Priority.BACKGROUND, response -> {
+                    // 캐시에 없으면 OkHttp가 504로 응답
+                    if (!response.isSuccessful()) {
+                        return new ArrayList<Game>();
+                    }
+                    System.out.println("[DEBUG] 디스크 캐시에서 게임 목록 로드: " + endpoint.baseUrl);
+                    return JsonCodec.<List<Game>>read(JsonCodec.GAMES, response.body());
+                });
+                if (!games.isEmpty()) {
+                    rememberVectorTables(games);
+                    return games;
+                }
+            } catch (Exception e) {
+                System.err.println("캐시된 게임 목록 읽기 실패: " + e.getMessage());
             }
-            return mapper.readValue(response.body().string(), new TypeReference<List<Game>>() {});
+        }
+        return new ArrayList<>();
+    }
+
+    /**
+     * 게임별 팁 조회 (BACKGROUND 우선순위, 디스크 캐시가 있으면 조건부 요청으로 재검증)
+     * 서버가 팁을 제공하지 않으면(404) null로 완료
+     */
+    public CompletableFuture<GameTips> getGameTipsAsync(long gameId) {
+        return enqueue(catalogClient, tipsRequest(gameId, null), Priority.BACKGROUND, this::readGameTips);
+    }
+
+    /**
+     * 디스크 캐시에 저장된 게임별 팁 (네트워크 요청 없음, 캐시가 없으면 null)
+     * 디스크 캐시를 동기로 읽으므로(처음에는 캐시 저널 열기 포함) UI 스레드에서는 호출하지 않음
+     */
+    public GameTips getCachedGameTips(long gameId) {
+        try {
+            return execute(catalogClient, tipsRequest(gameId, CacheControl.FORCE_CACHE), Priority.BACKGROUND,
+                response -> response.isSuccessful() ? JsonCodec.<GameTips>read(JsonCodec.TIPS, response.body()) : null);
+        } catch (Exception e) {
+            System.err.println("캐시된 게임 팁 읽기 실패: " + e.getMessage());
+            return null;
         }
     }
-    
+
     /**
      * 화면 분석 요청
      */
     public ScreenAnalysisResponse analyzeScreen(ScreenAnalysisRequest analysisRequest) throws Exception {
-        String json = mapper.writeValueAsString(analysisRequest);
-        
-        RequestBody requestBody = RequestBody.create(
-            json, 
-            MediaType.get("application/json; charset=utf-8")
-        );
-        
-        Request request = new Request.Builder()
-                .url(BASE_URL + "/advice/screen")
-                .post(requestBody)
+        return analyzeScreen(analysisRequest, Priority.INTERACTIVE);
+    }
+
+    /**
+     * 화면 분석 요청 (우선순위 지정, 스풀 재전송처럼 사용자가 기다리지 않는 요청은 BACKGROUND)
+     */
+    public ScreenAnalysisResponse analyzeScreen(ScreenAnalysisRequest analysisRequest, Priority priority) throws Exception {
+        try {
+            return analyzeScreenAsync(analysisRequest, 0, priority).get();
+        } catch (ExecutionException e) {
+            // 동기 호출자는 원래 예외(IOException 등)로 구분하므로 풀어서 던짐
+            Throwable cause = e.getCause();
+            throw cause instanceof Exception ? (Exception) cause : e;
+        }
+    }
+
+    /**
+     * 화면 분석 요청 (비동기)
+     * 같은(거의 같은) 화면의 분석 결과가 캐시에 있으면 서버에 보내지 않고 바로 완료 (응답의 isCached()가 true)
+     * 같은 게임/화면/프롬프트의 요청이 진행 중이면 새로 보내지 않고 그 결과를 함께 받음
+     * @param timeoutMillis 이 시간 안에 응답이 없으면 호출을 중단하고 TimeoutException으로 완료 (0 이하면 제한 없음)
+     */
+    public CompletableFuture<ScreenAnalysisResponse> analyzeScreenAsync(ScreenAnalysisRequest analysisRequest, long timeoutMillis) {
+        return analyzeScreenAsync(analysisRequest, timeoutMillis, Priority.INTERACTIVE);
+    }
+
+    /**
+     * 화면 분석 요청 (비동기, 우선순위 지정)
+     * 사용자 요청이 백그라운드 요청의 대기열에 묶이지 않도록 요청 묶음은 INTERACTIVE끼리만 적용
+     */
+    public CompletableFuture<ScreenAnalysisResponse> analyzeScreenAsync(ScreenAnalysisRequest analysisRequest, long timeoutMillis,
+                                                                        Priority priority) {
+        ScreenAnalysisResponse cached = resultCache.get(analysisRequest);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        CompletableFuture<ScreenAnalysisResponse> future = priority == Priority.INTERACTIVE
+            ? analysisFlights.execute(AnalysisKey.of(analysisRequest), () -> sendAnalysis(analysisRequest, priority))
+            : sendAnalysis(analysisRequest, priority);
+        return timeoutMillis > 0 ? future.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS) : future;
+    }
+
+    private CompletableFuture<ScreenAnalysisResponse> sendAnalysis(ScreenAnalysisRequest analysisRequest, Priority priority) {
+        TimedRequestBody requestBody;
+        try {
+            requestBody = timedAnalysisBody(analysisRequest);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return enqueueMeasured(analysisClient, screenRequest(requestBody, analysisRequest.getGameName()), priority,
+            cached(analysisRequest, response -> readAnalysis(response, requestBody, isFullFrame(analysisRequest))));
+    }
+
+    /**
+     * 화면 분석 요청 (스트리밍 응답, 비동기)
+     * 서버가 NDJSON으로 보내는 조각({"delta": "..."})을 도착하는 즉시 onDelta로 전달하고,
+     * 마지막 줄({"done": true, ...})까지 받으면 전체 텍스트를 담은 응답으로 완료
+     * 서버가 스트리밍 엔드포인트를 지원하지 않으면(404/405) StreamingUnsupportedException으로 완료
+     * 캐시에 결과가 있으면 onDelta 호출 없이 바로 완료
+     * @param onDelta 텍스트 조각 콜백 (OkHttp 디스패처 스레드에서 호출)
+     */
+    public CompletableFuture<ScreenAnalysisResponse> analyzeScreenStreamAsync(ScreenAnalysisRequest analysisRequest,
+                                                                             Consumer<String> onDelta, long timeoutMillis) {
+        ScreenAnalysisResponse cached = resultCache.get(analysisRequest);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        TimedRequestBody requestBody;
+        try {
+            requestBody = timedAnalysisBody(analysisRequest);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        Request request = analysisRequest("/advice/screen/stream", requestBody, analysisRequest.getGameName())
+                .header("Accept", NDJSON.toString())
                 .build();
-                
-        try (Response response = client.newCall(request).execute()) {
-            if (!response.isSuccessful()) {
-                System.err.println("화면 분석 요청 실패: " + response);
-                throw new Exception("화면 분석 요청 실패: " + response.code());
+        CompletableFuture<ScreenAnalysisResponse> future = enqueueMeasured(analysisClient, request, Priority.INTERACTIVE,
+            cached(analysisRequest, response -> readAnalysisStream(response, requestBody, isFullFrame(analysisRequest), onDelta)));
+        return timeoutMillis > 0 ? future.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS) : future;
+    }
+
+    /**
+     * 연속 화면(멀티 프레임) 분석 요청
+     */
+    public ScreenAnalysisResponse analyzeScreenSequence(ScreenSequenceRequest sequenceRequest) throws Exception {
+        return execute(analysisClient, sequenceRequest(sequenceRequest), Priority.INTERACTIVE,
+            this::readSequenceAnalysis);
+    }
+
+    public CompletableFuture<ScreenAnalysisResponse> analyzeScreenSequenceAsync(ScreenSequenceRequest sequenceRequest, long timeoutMillis) {
+        Request request;
+        try {
+            request = sequenceRequest(sequenceRequest);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        CompletableFuture<ScreenAnalysisResponse> future = enqueueMeasured(analysisClient, request, Priority.INTERACTIVE,
+            this::readSequenceAnalysis);
+        return timeoutMillis > 0 ? future.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS) : future;
+    }
+
+    /**
+     * 연결 예열용 가벼운 요청 (서버 연결이 차단된 동안은 보내지 않음)
+     * 분석 요청과 같은 연결 풀/주소를 쓰므로 여기서 맺은 연결을 첫 분석 요청이 그대로 재사용
+     * 서버가 여러 개면 제외되지 않은 서버 모두 예열
+     * @return 새 연결을 맺고 응답한 서버 수 (모두 기존 연결을 재사용했거나 응답이 없으면 0)
+     */
+    public int warmUp() {
+        int opened = 0;
+        for (EndpointSelector.Endpoint endpoint : endpoints.available()) {
+            NetworkTimings.CallTimings timings = new NetworkTimings.CallTimings();
+            Request request = pingRequest(endpoint).newBuilder().tag(NetworkTimings.CallTimings.class, timings).build();
+            try {
+                if (execute(pingClient, request, Priority.TELEMETRY, Response::isSuccessful)
+                        && timings.isNewConnection()) {
+                    opened++;
+                }
+            } catch (Exception e) {
+                // 다음 서버 예열 계속
             }
-            
-            String responseBody = response.body().string();
-            return mapper.readValue(responseBody, ScreenAnalysisResponse.class);
         }
+        return opened;
     }
 
     /**
-     * 서버 연결 상태 확인 (ping)
+     * 서킷 브레이커 HALF_OPEN 연결 확인 (브레이커/스케줄러를 거치지 않고 직접 호출, 서버 중 하나라도 응답하면 성공)
      */
-    public boolean ping() {
-        Request request = new Request.Builder().url(BASE_URL + "/games").head().build();
-        try (Response response = client.newCall(request).execute()) {
-            return response.isSuccessful();
-        } catch (Exception e) {
-            return false;
+    private boolean probe() {
+        for (EndpointSelector.Endpoint endpoint : endpoints.available()) {
+            try (Response response = pingClient.newCall(pingRequest(endpoint)).execute()) {
+                if (response.isSuccessful()) return true;
+            } catch (IOException e) {
+                // 다음 서버 확인
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 서버별 현황 (선택 점수/제외 상태)
+     */
+    public String endpointStats() {
+        return endpoints.stats();
+    }
+
+    /**
+     * 우선순위별 실행/대기 현황
+     */
+    public String schedulerStats() {
+        return scheduler.stats();
+    }
+
+    // ===== 요청 생성 =====
+
+    private Request gamesRequest() {
+        // 디스크 캐시 키가 바뀌지 않도록 설정 순서상 첫 번째 정상 서버에서 조회
+        return new Request.Builder().url(endpoints.preferred().url("/games")).build();
+    }
+
+    private Request tipsRequest(long gameId, CacheControl cacheControl) {
+        // 게임 목록과 같은 서버에서 조회 (디스크 캐시 키 유지)
+        Request.Builder builder = new Request.Builder().url(endpoints.preferred().url("/games/" + gameId + "/tips"));
+        if (cacheControl != null) {
+            builder.cacheControl(cacheControl);
+        }
+        return builder.build();
+    }
+
+    private Request pingRequest(EndpointSelector.Endpoint endpoint) {
+        return new Request.Builder().url(endpoint.url("/games")).head().build();
+    }
+
+    /**
+     * 분석 요청 (게임별 고정 배정이 켜져 있으면 벡터 테이블 이름 기준으로 서버를 고르고,
+     * 연결 실패로 다른 서버에 재시도할 때도 같은 키를 쓰도록 요청에 태그로 붙임)
+     */
+    private Request.Builder analysisRequest(String path, TimedRequestBody requestBody, String gameName) {
+        String affinityKey = gameName != null ? vectorTables.get(gameName) : null;
+        Request.Builder builder = postRequest(endpoints.select(affinityKey).url(path), requestBody);
+        if (affinityKey != null) {
+            builder.tag(EndpointSelector.AffinityTag.class, new EndpointSelector.AffinityTag(affinityKey));
+        }
+        return builder;
+    }
+
+    private void rememberVectorTables(List<Game> games) {
+        for (Game game : games) {
+            if (game.getName() != null && game.getVectorTableName() != null) {
+                vectorTables.put(game.getName(), game.getVectorTableName());
+            }
+        }
+    }
+
+    private TimedRequestBody timedJsonBody(Object body) throws IOException {
+        return timedBody(body, false);
+    }
+
+    /**
+     * 분석 요청 본문 (서버와 협상된 경우 Smile, 거절 시 보낼 JSON 본문도 함께 준비)
+     */
+    private TimedRequestBody timedAnalysisBody(ScreenAnalysisRequest body) throws IOException {
+        return timedBody(body, WireFormat.getInstance().useSmile());
+    }
+
+    private TimedRequestBody timedBody(Object body, boolean smile) throws IOException {
+        RequestBody json = smile ? JsonCodec.streamingBody(body) : null;
+        RequestCompression compression = RequestCompression.getInstance();
+        if (!compression.mayCompress()) {
+            // 압축하지 않으면 전송 시점에 싱크로 바로 직렬화 (업로드 시간 측정을 위해 본문 래핑)
+            return new TimedRequestBody(JsonCodec.streamingBody(body, smile), null, null, json);
         }
+
+        // 서버와 협상된 경우 본문 압축 (거절 시 비압축으로 재전송할 수 있도록 원본도 보관)
+        byte[] bytes = JsonCodec.toBytes(body, smile);
+        MediaType contentType = smile ? JsonCodec.SMILE : JsonCodec.JSON;
+        RequestBody plain = RequestBody.create(bytes, contentType);
+        String encoding = compression.chooseEncoding(bytes.length);
+        if (encoding == null) {
+            return new TimedRequestBody(plain, null, null, json);
+        }
+        return new TimedRequestBody(RequestBody.create(compression.compress(bytes, encoding), contentType), plain, encoding, json);
+    }
+
+    private Request.Builder postRequest(String url, TimedRequestBody requestBody) {
+        Request.Builder builder = new Request.Builder()
+                .url(url)
+                .post(requestBody)
+                .tag(NetworkTimings.CallTimings.class, new NetworkTimings.CallTimings());
+        if (requestBody.getContentEncoding() != null) {
+            builder.header("Content-Encoding", requestBody.getContentEncoding());
+        }
+        return builder;
+    }
+
+    private Request screenRequest(TimedRequestBody requestBody, String gameName) {
+        return analysisRequest("/advice/screen", requestBody, gameName).build();
+    }
+
+    private Request sequenceRequest(ScreenSequenceRequest sequenceRequest) throws IOException {
+        return analysisRequest("/advice/screen/sequence", timedJsonBody(sequenceRequest), sequenceRequest.getGameName()).build();
+    }
+
+    // ===== 응답 처리 =====
+
+    private List<Game> readGames(Response response) throws IOException {
+        if (!response.isSuccessful()) {
+            System.err.println("Failed to fetch game list: " + response);
+            return new ArrayList<>();
+        }
+        Response networkResponse = response.networkResponse();
+        if (response.cacheResponse() != null && networkResponse != null && networkResponse.code() == 304) {
+            System.out.println("[DEBUG] 게임 목록 재검증: 변경 없음 (304, 캐시 사용)");
+        } else if (networkResponse != null) {
+            System.out.println("[DEBUG] 게임 목록 재검증: 새 목록 수신");
+        }
+        System.out.println("[DEBUG] HTTP 캐시: " + SharedHttpClient.cacheStats());
+        List<Game> games = JsonCodec.read(JsonCodec.GAMES, response.body());
+        rememberVectorTables(games);
+        return games;
+    }
+
+    private GameTips readGameTips(Response response) throws Exception {
+        if (response.code() == 404) {
+            return null;
+        }
+        if (!response.isSuccessful()) {
+            System.err.println("게임 팁 요청 실패: " + response);
+            throw new HttpStatusException("게임 팁 요청 실패", response.code());
+        }
+        Response networkResponse = response.networkResponse();
+        if (response.cacheResponse() != null && networkResponse != null && networkResponse.code() == 304) {
+            System.out.println("[DEBUG] 게임 팁 재검증: 변경 없음 (304, 캐시 사용)");
+        }
+        return JsonCodec.read(JsonCodec.TIPS, response.body());
+    }
+
+    /**
+     * 캡쳐 품질 컨트롤러에 전송 측정을 기록할 요청인지 (썸네일을 보내는 빠른 1차 분석은 품질 단계와 무관하므로 제외)
+     */
+    private static boolean isFullFrame(ScreenAnalysisRequest analysisRequest) {
+        return !ScreenAnalysisRequest.PHASE_QUICK.equals(analysisRequest.getAnalysisPhase());
+    }
+
+    /**
+     * @param measureTransfer 업로드/서버 처리 시간을 캡쳐 품질 컨트롤러에 기록할지
+     */
+    private ScreenAnalysisResponse readAnalysis(Response response, TimedRequestBody requestBody,
+                                                boolean measureTransfer) throws Exception {
+        NetworkTimings.CallTimings timings = NetworkTimings.CallTimings.of(response);
+        if (measureTransfer && timings != null && response.isSuccessful()) {
+            // 본문을 다 쓸 때까지(업로드)와 그 뒤 응답 헤더 수신까지(서버 처리)
+            CaptureQualityController.getInstance().recordTransfer(requestBody.getBodyBytes(), timings.uploadMillis(),
+                timings.serverMillis());
+        }
+        System.out.println("[DEBUG] HTTP 연결 풀: " + SharedHttpClient.poolStats());
+        System.out.println("[DEBUG] 요청 스케줄러: " + scheduler.stats());
+        System.out.println("[DEBUG] 서버 현황: " + endpoints.stats());
+
+        if (!response.isSuccessful()) {
+            System.err.println("화면 분석 요청 실패: " + response);
+            throw new HttpStatusException("화면 분석 요청 실패", response.code());
+        }
+
+        return JsonCodec.read(JsonCodec.ANALYSIS, response.body());
+    }
+
+    private ScreenAnalysisResponse readAnalysisStream(Response response, TimedRequestBody requestBody,
+                                                      boolean measureTransfer, Consumer<String> onDelta) throws Exception {
+        if (response.code() == 404 || response.code() == 405) {
+            throw new StreamingUnsupportedException(response.code());
+        }
+        if (!response.isSuccessful()) {
+            System.err.println("스트리밍 분석 요청 실패: " + response);
+            throw new HttpStatusException("스트리밍 분석 요청 실패", response.code());
+        }
+
+        // 스트리밍이 아닌 일반 JSON으로 응답한 경우 한 번에 전달
+        MediaType contentType = response.body().contentType();
+        if (contentType == null || !"x-ndjson".equals(contentType.subtype())) {
+            ScreenAnalysisResponse whole = readAnalysis(response, requestBody, measureTransfer);
+            if (whole.getAnalysis() != null) {
+                onDelta.accept(whole.getAnalysis());
+            }
+            return whole;
+        }
+
+        NetworkTimings.CallTimings timings = NetworkTimings.CallTimings.of(response);
+        long requestStartNanos = timings != null ? timings.requestStartNanos() : System.nanoTime();
+        long headerNanos = System.nanoTime();
+        long firstTokenNanos = 0;
+        StringBuilder text = new StringBuilder();
+        BufferedSource source = response.body().source();
+        String line;
+        while ((line = source.readUtf8Line()) != null) {
+            if (line.isBlank()) continue;
+            JsonNode node = JsonCodec.TREE.readValue(line);
+
+            if (node.has("delta")) {
+                String delta = node.get("delta").asText();
+                if (firstTokenNanos == 0) {
+                    firstTokenNanos = System.nanoTime();
+                    // 체감 지연은 첫 토큰 기준이므로 품질 컨트롤러에도 본문 전송 후 첫 토큰까지를 서버 처리 시간으로 기록
+                    long firstTokenMillis = (firstTokenNanos - requestStartNanos) / 1_000_000;
+                    if (measureTransfer && timings != null) {
+                        CaptureQualityController.getInstance().recordTransfer(requestBody.getBodyBytes(), timings.uploadMillis(),
+                            timings.serverMillisUntil(firstTokenNanos));
+                    }
+                    System.out.println("[DEBUG] 첫 토큰 수신: 요청 시작 후 " + firstTokenMillis + "ms (응답 헤더 후 " +
+                        (firstTokenNanos - headerNanos) / 1_000_000 + "ms)");
+                }
+                text.append(delta);
+                onDelta.accept(delta);
+            }
+
+            if (node.path("done").asBoolean(false)) {
+                // 스트림 제어용 필드는 응답 모델에 없으므로 제거 후 변환
+                ObjectNode summary = ((ObjectNode) node).deepCopy();
+                summary.remove("done");
+                summary.remove("delta");
+                ScreenAnalysisResponse result = JsonCodec.ANALYSIS.readValue(summary);
+                if (result.getAnalysis() == null) {
+                    result.setAnalysis(text.toString());
+                }
+                System.out.println("[DEBUG] 스트리밍 분석 완료: " + text.length() + "자, 전체 " +
+                    (System.nanoTime() - requestStartNanos) / 1_000_000 + "ms");
+                return result;
+            }
+        }
+        throw new IOException("스트리밍 응답이 완료 전에 끊겼습니다.");
+    }
+
+    private ScreenAnalysisResponse readSequenceAnalysis(Response response) throws Exception {
+        if (!response.isSuccessful()) {
+            System.err.println("연속 화면 분석 요청 실패: " + response);
+            throw new HttpStatusException("연속 화면 분석 요청 실패", response.code());
+        }
+
+        return JsonCodec.read(JsonCodec.ANALYSIS, response.body());
+    }
+
+    // ===== 호출 실행 =====
+
+    @FunctionalInterface
+    private interface ResponseHandler<T> {
+        T handle(Response response) throws Exception;
+    }
+
+    /**
+     * 호출 시작부터 응답 헤더 수신까지 걸린 시간을 예열 연결/새 연결로 나눠 기록하는 핸들러 래퍼
+     * 호출 시작 시점에 만들어야 연결 수립 시간이 포함됨 (스케줄러 대기 시간은 제외)
+     * 새 연결 여부는 그 호출에서 연결을 맺었는지(CallTimings 태그)로 판단
+     */
+    private <T> ResponseHandler<T> measured(ResponseHandler<T> handler) {
+        long startNanos = System.nanoTime();
+        return response -> {
+            NetworkTimings.CallTimings timings = NetworkTimings.CallTimings.of(response);
+            if (timings != null) {
+                ConnectionWarmer.getInstance().recordRequest(!timings.isNewConnection(),
+                    (System.nanoTime() - startNanos) / 1_000_000);
+            }
+            return handler.handle(response);
+        };
+    }
+
+    /**
+     * 성공한 분석 결과를 결과 캐시에 저장하는 핸들러 래퍼
+     * future 완료 전에 저장하므로 결과를 받은 직후의 같은 화면 요청도 캐시에서 응답
+     */
+    private ResponseHandler<ScreenAnalysisResponse> cached(ScreenAnalysisRequest analysisRequest,
+                                                           ResponseHandler<ScreenAnalysisResponse> handler) {
+        return response -> {
+            ScreenAnalysisResponse result = handler.handle(response);
+            resultCache.put(analysisRequest, result);
+            return result;
+        };
+    }
+
+    private <T> T execute(OkHttpClient client, Request request, Priority priority, ResponseHandler<T> handler) throws Exception {
+        if (!isGuarded(request)) {
+            // 디스크 캐시만 읽는 요청은 네트워크를 쓰지 않으므로 차례를 기다리지 않음 (UI 스레드에서도 호출)
+            return call(client, request, handler);
+        }
+        RequestScheduler.Permit permit = scheduler.acquire(priority);
+        try {
+            return call(client, request, handler);
+        } finally {
+            permit.close();
+        }
+    }
+
+    private <T> T call(OkHttpClient client, Request request, ResponseHandler<T> handler) throws Exception {
+        boolean guarded = isGuarded(request);
+        if (guarded) {
+            circuitBreaker.acquire();
+        }
+        Response response;
+        try {
+            response = client.newCall(request).execute();
+        } catch (IOException e) {
+            if (guarded) {
+                recordBreakerFailure(e.toString());
+            }
+            throw e;
+        }
+        if (guarded) {
+            recordBreakerResponse(response.code());
+        }
+        try (response) {
+            return handler.handle(response);
+        }
+    }
+
+    /**
+     * 응답 코드를 서킷 브레이커에 기록 (서버 쪽 실패 5xx는 recordBreakerFailure와 같게 처리)
+     */
+    private void recordBreakerResponse(int code) {
+        if (CircuitBreaker.isServerFailure(code)) {
+            recordBreakerFailure("HTTP " + code);
+        } else {
+            circuitBreaker.recordSuccess();
+        }
+    }
+
+    /**
+     * 서버별 실패는 EndpointSelector가 세어 그 서버만 제외하므로,
+     * 서버 하나가 실패해도 정상 서버로 가는 요청까지 막히지 않도록 모든 서버가 제외됐거나 실패 중일 때만 브레이커에 기록
+     */
+    private void recordBreakerFailure(String reason) {
+        if (endpoints.isEveryEndpointFailing()) {
+            circuitBreaker.recordFailure(reason);
+        }
+    }
+
+    /**
+     * 디스크 캐시만 읽는 요청은 서버 상태와 무관하므로 브레이커를 거치지 않음
+     */
+    private boolean isGuarded(Request request) {
+        return !request.cacheControl().onlyIfCached();
+    }
+
+    /**
+     * 우선순위 스케줄러에서 실행 차례가 되면 비동기로 호출
+     * 차례를 기다리는 동안 future가 취소/타임아웃되면 호출하지 않고 대기열에서 제거
+     */
+    private <T> CompletableFuture<T> enqueue(OkHttpClient client, Request request, Priority priority, ResponseHandler<T> handler) {
+        return scheduler.submit(priority, () -> dispatch(client, request, handler));
+    }
+
+    /**
+     * enqueue와 같고 실행 차례가 된 시점부터 응답 헤더까지의 시간을 예열 연결/새 연결로 나눠 기록
+     */
+    private <T> CompletableFuture<T> enqueueMeasured(OkHttpClient client, Request request, Priority priority,
+                                                     ResponseHandler<T> handler) {
+        return scheduler.submit(priority, () -> dispatch(client, request, measured(handler)));
+    }
+
+    /**
+     * OkHttp 디스패처 스레드에서 비동기로 호출하고 결과를 CompletableFuture로 반환
+     * future가 취소/타임아웃 등으로 먼저 완료되면 진행 중인 Call도 취소
+     */
+    private <T> CompletableFuture<T> dispatch(OkHttpClient client, Request request, ResponseHandler<T> handler) {
+        boolean guarded = isGuarded(request);
+        if (guarded) {
+            try {
+                circuitBreaker.acquire();
+            } catch (CircuitBreaker.OpenException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        Call call = client.newCall(request);
+        CompletableFuture<T> future = new CompletableFuture<>();
+
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                // 사용자 취소/타임아웃으로 끊은 호출은 서버 상태와 무관
+                if (guarded && !call.isCanceled()) {
+                    recordBreakerFailure(e.toString());
+                }
+                future.completeExceptionally(e);
+            }
+
+            @Override
+            public void onResponse(Call call, Response response) {
+                if (guarded) {
+                    recordBreakerResponse(response.code());
+                }
+                try (response) {
+                    future.complete(handler.handle(response));
+                } catch (Exception e) {
+                    future.completeExceptionally(e);
+                }
+            }
+        });
+
+        future.whenComplete((result, error) -> {
+            if (error != null && !call.isCanceled()) {
+                call.cancel();
+            }
+        });
+        return future;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,143 @@
+package com.gameadvisor.client.network;
+
+import com.gameadvisor.client.model.CaptureQuality;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * 대역폭/지연 적응형 캡쳐 품질 컨트롤러
+ * 예상 분석 지연을 서버 처리 시간 + 본문 크기 / 업로드 속도로 보고,
+ * 업로드 속도(본문을 다 쓸 때까지)와 서버 처리 시간(본문을 다 쓴 뒤 응답 헤더/첫 토큰까지)을 각각 지수 이동 평균(EWMA)으로 추적
+ * 캡쳐 품질은 업로드 시간만 바꿀 수 있으므로, 목표 지연에서 서버 처리 시간을 뺀 만큼을 업로드 예산으로 두고
+ * 그 안에 들어오는 가장 높은 품질 단계를 다음 요청에 사용 (서버 처리만으로 목표를 넘으면 목표의 일부를 최소 예산으로 사용)
+ * 이미지는 JSON 본문이면 Base64로, Smile 본문이면 원본 바이트로 들어가므로 현재 본문 형식에 맞춰 크기를 환산
+ *
+ * 목표 지연은 -Dgameadvisor.analysis.targetLatencyMs=8000 처럼 시스템 프로퍼티로 설정 가능
+ */
+public class CaptureQualityController {
+
+    private static final CaptureQualityController INSTANCE = new CaptureQualityController(
+        Long.getLong("gameadvisor.analysis.targetLatencyMs", 10000L),
+        () -> WireFormat.getInstance().useSmile());
+
+    private static final double EWMA_ALPHA = 0.3;
+    // 서버 처리 시간이 목표 지연을 다 써도 업로드에 허용할 최소 비율
+    private static final double MIN_UPLOAD_SHARE = 0.2;
+    // JSON 본문의 Base64 이미지 크기 비율
+    private static final double BASE64_FACTOR = 4.0 / 3;
+
+    // 품질 단계 (0이 최고 품질), sizeFactor는 원본 PNG 대비 예상 페이로드 비율
+    private static final CaptureQuality[] LEVELS = {
+        new CaptureQuality(0, 1.0, CaptureQuality.FORMAT_PNG, 1.0f),
+        new CaptureQuality(1, 1.0, CaptureQuality.FORMAT_JPEG, 0.9f),
+        new CaptureQuality(2, 0.75, CaptureQuality.FORMAT_JPEG, 0.8f),
+        new CaptureQuality(3, 0.5, CaptureQuality.FORMAT_JPEG, 0.7f),
+        new CaptureQuality(4, 0.35, CaptureQuality.FORMAT_JPEG, 0.6f)
+    };
+    private static final double[] SIZE_FACTORS = {1.0, 0.30, 0.12, 0.05, 0.025};
+
+    private volatile long targetLatencyMillis;
+    // 이미지를 원본 바이트로 보내는지 (Smile 본문)
+    private final BooleanSupplier rawImageBytes;
+
+    // 측정값 (아직 측정 전이면 음수)
+    private double uploadBytesPerSecond = -1;
+    private double serverMillis = -1;
+    // 원본 PNG 기준으로 환산한 페이로드 크기 추정치
+    private double referencePayloadBytes = -1;
+
+    private CaptureQuality lastQuality = CaptureQuality.ORIGINAL;
+
+    CaptureQualityController(long targetLatencyMillis, BooleanSupplier rawImageBytes) {
+        this.targetLatencyMillis = targetLatencyMillis;
+        this.rawImageBytes = rawImageBytes;
+    }
+
+    public static CaptureQualityController getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * 다음 분석 요청에 사용할 품질 결정
+     */
+    public synchronized CaptureQuality nextQuality() {
+        if (uploadBytesPerSecond <= 0 || serverMillis < 0 || referencePayloadBytes <= 0) {
+            // 측정값이 없으면 기존과 동일하게 원본 품질로 시작
+            lastQuality = LEVELS[0];
+            return lastQuality;
+        }
+
+        double uploadBudget = Math.max(targetLatencyMillis - serverMillis, targetLatencyMillis * MIN_UPLOAD_SHARE);
+        CaptureQuality chosen = LEVELS[LEVELS.length - 1];
+        for (int i = 0; i < LEVELS.length; i++) {
+            if (predictUploadMillis(i) <= uploadBudget) {
+                chosen = LEVELS[i];
+                break;
+            }
+        }
+
+        if (chosen.getLevel() != lastQuality.getLevel()) {
+            System.out.println("[DEBUG] 캡쳐 품질 변경: " + lastQuality + " -> " + chosen +
+                " (예상 지연 " + Math.round(predictLatencyMillis(chosen.getLevel())) + "ms = 서버 " + Math.round(serverMillis) +
+                "ms + 업로드 " + Math.round(predictUploadMillis(chosen.getLevel())) + "ms, 목표 " + targetLatencyMillis + "ms)");
+        }
+        lastQuality = chosen;
+        return chosen;
+    }
+
+    /**
+     * 인코딩된 페이로드 크기 기록 (품질 단계별 크기 추정 보정)
+     */
+    public synchronized void recordEncoded(CaptureQuality quality, long payloadBytes) {
+        if (payloadBytes <= 0 || quality.getLevel() < 0 || quality.getLevel() >= LEVELS.length) return;
+        double reference = payloadBytes / SIZE_FACTORS[quality.getLevel()];
+        referencePayloadBytes = ewma(referencePayloadBytes, reference);
+    }
+
+    /**
+     * 전송 결과 기록 (ApiClient에서 호출)
+     * @param bodyBytes 요청 본문 크기
+     * @param uploadMillis 요청 헤더 전송 시작부터 본문을 다 쓸 때까지의 시간 (측정하지 못했으면 음수)
+     * @param serverMillis 본문을 다 쓴 뒤 응답 헤더(스트리밍이면 첫 토큰) 수신까지의 시간 (측정하지 못했으면 음수)
+     */
+    public synchronized void recordTransfer(long bodyBytes, long uploadMillis, long serverMillis) {
+        if (bodyBytes <= 0 || uploadMillis < 0 || serverMillis < 0) return;
+        double throughput = bodyBytes * 1000.0 / Math.max(1, uploadMillis);
+        uploadBytesPerSecond = ewma(uploadBytesPerSecond, throughput);
+        this.serverMillis = ewma(this.serverMillis, serverMillis);
+        System.out.println("[DEBUG] 전송 측정: " + bodyBytes + " bytes, 업로드 " + uploadMillis + "ms, 서버 처리 " + serverMillis +
+            "ms (평균 업로드 " + Math.round(uploadBytesPerSecond / 1024) + " KB/s, 평균 서버 처리 " + Math.round(this.serverMillis) + "ms)");
+    }
+
+    public void setTargetLatencyMillis(long targetLatencyMillis) {
+        this.targetLatencyMillis = targetLatencyMillis;
+    }
+
+    public long getTargetLatencyMillis() {
+        return targetLatencyMillis;
+    }
+
+    public synchronized double getUploadBytesPerSecond() {
+        return uploadBytesPerSecond;
+    }
+
+    public synchronized double getServerMillis() {
+        return serverMillis;
+    }
+
+    /**
+     * 품질 단계의 예상 분석 지연 (서버 처리 + 업로드)
+     */
+    synchronized double predictLatencyMillis(int level) {
+        return serverMillis + predictUploadMillis(level);
+    }
+
+    private double predictUploadMillis(int level) {
+        double bodyBytes = referencePayloadBytes * SIZE_FACTORS[level] * (rawImageBytes.getAsBoolean() ? 1.0 : BASE64_FACTOR);
+        return bodyBytes * 1000.0 / uploadBytesPerSecond;
+    }
+
+    private static double ewma(double current, double sample) {
+        return current < 0 ? sample : current + EWMA_ALPHA * (sample - current);
+    }
+}
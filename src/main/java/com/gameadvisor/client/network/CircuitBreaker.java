@@ -0,0 +1,249 @@
+package com.gameadvisor.client.network;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * 서버 호출 서킷 브레이커 (CLOSED -> OPEN -> HALF_OPEN -> CLOSED)
+ * 연속 실패가 기준을 넘으면 OPEN으로 전환하여 요청을 바로 실패시키고,
+ * 지터를 섞은 지수 백오프 후 한 번만 연결 확인(probe)을 보내 성공하면 CLOSED로 복구
+ * 여러 클라이언트가 서버 재시작 후 같은 주기로 몰려 재연결하지 않도록 대기 시간을 무작위로 분산
+ *
+ * -Dgameadvisor.breaker.failureThreshold=3 (OPEN 전환 연속 실패 수)
+ * -Dgameadvisor.breaker.baseDelayMs=1000 -Dgameadvisor.breaker.maxDelayMs=60000 (백오프 시작/최대)
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    /**
+     * OPEN 상태에서 바로 실패시킨 요청 (연결 오류와 같게 처리되도록 IOException)
+     */
+    public static class OpenException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        public OpenException(String message) {
+            super(message);
+        }
+    }
+
+    private final String name;
+    private final BooleanSupplier probe;
+    private final int failureThreshold = Integer.getInteger("gameadvisor.breaker.failureThreshold", 3);
+    private final long baseDelayMillis = Long.getLong("gameadvisor.breaker.baseDelayMs", 1000L);
+    private final long maxDelayMillis = Long.getLong("gameadvisor.breaker.maxDelayMs", 60_000L);
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "circuit-breaker");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final List<Consumer<State>> listeners = new CopyOnWriteArrayList<>();
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    // OPEN 전환 횟수 (복구 전까지 누적, 백오프 지수)
+    private int openAttempts;
+    private long nextProbeAtMillis;
+    private ScheduledFuture<?> scheduledProbe;
+
+    // 지표
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong openCount = new AtomicLong();
+    private final AtomicLong probeCount = new AtomicLong();
+
+    /**
+     * @param probe 서버 연결 확인 (HALF_OPEN에서 호출, 성공 시 true)
+     */
+    public CircuitBreaker(String name, BooleanSupplier probe) {
+        this.name = name;
+        this.probe = probe;
+    }
+
+    /**
+     * 요청 전 호출: CLOSED가 아니면 OpenException으로 바로 실패
+     */
+    public void acquire() throws OpenException {
+        long retryInMillis;
+        synchronized (this) {
+            if (state == State.CLOSED) return;
+            retryInMillis = Math.max(0, nextProbeAtMillis - System.currentTimeMillis());
+        }
+        rejectedCount.incrementAndGet();
+        throw new OpenException(String.format("서버 연결 차단 중 (%.1f초 후 재시도)", retryInMillis / 1000.0));
+    }
+
+    /**
+     * HTTP 응답 수신 결과 기록 (게이트웨이/서버 과부하 5xx는 실패로 간주)
+     */
+    public void recordResponse(int code) {
+        if (isServerFailure(code)) {
+            recordFailure("HTTP " + code);
+        } else {
+            recordSuccess();
+        }
+    }
+
+    /**
+     * 서버 쪽 실패로 볼 응답 코드인지 (501 Not Implemented는 기능 미지원이므로 제외)
+     */
+    public static boolean isServerFailure(int code) {
+        return code >= 500 && code != 501;
+    }
+
+    public void recordSuccess() {
+        synchronized (this) {
+            consecutiveFailures = 0;
+        }
+    }
+
+    public void recordFailure(String reason) {
+        boolean opened = false;
+        synchronized (this) {
+            consecutiveFailures++;
+            if (state == State.CLOSED && consecutiveFailures >= failureThreshold) {
+                System.out.println("[DEBUG] 서킷 브레이커(" + name + "): 연속 실패 " + consecutiveFailures + "회 - " + reason);
+                openLocked();
+                opened = true;
+            }
+        }
+        if (opened) {
+            notifyListeners(State.OPEN);
+        }
+    }
+
+    /**
+     * 대기 중인 백오프를 건너뛰고 즉시 연결 확인 (새로고침 버튼, 시작 시 연결 실패 등)
+     * 이미 확인 중이면 아무것도 하지 않음
+     */
+    public void probeNow() {
+        synchronized (this) {
+            if (state == State.HALF_OPEN) return;
+            if (scheduledProbe != null) {
+                scheduledProbe.cancel(false);
+            }
+            scheduledProbe = scheduler.schedule(this::runProbe, 0, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void runProbe() {
+        synchronized (this) {
+            if (state == State.HALF_OPEN) return;
+            state = State.HALF_OPEN;
+            scheduledProbe = null;
+        }
+        probeCount.incrementAndGet();
+        notifyListeners(State.HALF_OPEN);
+
+        boolean success;
+        try {
+            success = probe.getAsBoolean();
+        } catch (RuntimeException e) {
+            success = false;
+        }
+
+        State next;
+        synchronized (this) {
+            if (success) {
+                state = State.CLOSED;
+                consecutiveFailures = 0;
+                openAttempts = 0;
+                nextProbeAtMillis = 0;
+            } else {
+                openLocked();
+            }
+            next = state;
+        }
+        System.out.println("[DEBUG] 서킷 브레이커(" + name + "): 연결 확인 " + (success ? "성공" : "실패") + " - " + stats());
+        notifyListeners(next);
+    }
+
+    /**
+     * OPEN 전환 후 지터 백오프 뒤 연결 확인 예약 (락 보유 상태에서 호출)
+     */
+    private void openLocked() {
+        long delay = backoffMillis(openAttempts++);
+        state = State.OPEN;
+        nextProbeAtMillis = System.currentTimeMillis() + delay;
+        openCount.incrementAndGet();
+        if (scheduledProbe != null) {
+            scheduledProbe.cancel(false);
+        }
+        scheduledProbe = scheduler.schedule(this::runProbe, delay, TimeUnit.MILLISECONDS);
+        System.out.println(String.format("[DEBUG] 서킷 브레이커(%s): OPEN, %.1f초 후 연결 확인", name, delay / 1000.0));
+    }
+
+    /**
+     * 지수 백오프 상한의 절반 + 나머지 절반 범위의 무작위 지터 (equal jitter)
+     */
+    private long backoffMillis(int attempt) {
+        long cap = Math.min(maxDelayMillis, baseDelayMillis << Math.min(attempt, 20));
+        long half = cap / 2;
+        return half + ThreadLocalRandom.current().nextLong(half + 1);
+    }
+
+    private void notifyListeners(State newState) {
+        for (Consumer<State> listener : listeners) {
+            try {
+                listener.accept(newState);
+            } catch (RuntimeException e) {
+                System.err.println("서킷 브레이커 리스너 오류: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 상태 변경 알림 등록 (브레이커/OkHttp 스레드에서 호출되므로 UI 갱신은 Platform.runLater로)
+     */
+    public void addListener(Consumer<State> listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Consumer<State> listener) {
+        listeners.remove(listener);
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized int getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    /**
+     * 다음 자동 연결 확인까지 남은 시간 (OPEN이 아니면 0)
+     */
+    public synchronized long getRetryInMillis() {
+        return state == State.OPEN ? Math.max(0, nextProbeAtMillis - System.currentTimeMillis()) : 0;
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    public long getOpenCount() {
+        return openCount.get();
+    }
+
+    public long getProbeCount() {
+        return probeCount.get();
+    }
+
+    /**
+     * 브레이커 현황 문자열
+     */
+    public String stats() {
+        return String.format("상태 %s, 연속 실패 %d회, OPEN %d회, 차단 %d건, 연결 확인 %d회",
+            getState(), getConsecutiveFailures(), getOpenCount(), getRejectedCount(), getProbeCount());
+    }
+}
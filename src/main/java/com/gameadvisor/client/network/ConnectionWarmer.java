@@ -0,0 +1,128 @@
+package com.gameadvisor.client.network;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
+
+/**
+ * 게임 탐지 시 서버 연결 예열
+ * 게임이 탐지되면 바로 가벼운 요청(HEAD /games)으로 연결을 맺어 두고, 게임이 떠 있는 동안
+ * 서버의 유휴 연결 종료 시간보다 짧은 간격으로 다시 보내 첫 분석 요청이 연결 수립(TCP/TLS)을 건너뛰도록 함
+ * 분석 요청의 응답 헤더 수신까지 걸린 시간을 예열 연결 사용(warm)/새 연결(cold)로 나눠 기록
+ * 푸시 채널이 연결되어 있는 동안은 탐지 시 한 번만 예열하고 주기적 요청은 보내지 않음
+ *
+ * -Dgameadvisor.http.warmIntervalSeconds=15 (예열 유지 간격, 0이면 예열하지 않음)
+ */
+public class ConnectionWarmer {
+
+    private static final ConnectionWarmer INSTANCE = new ConnectionWarmer(
+        Long.getLong("gameadvisor.http.warmIntervalSeconds", 15L),
+        () -> PushChannel.getInstance().isConnected(),
+        () -> ApiClient.getInstance().warmUp());
+
+    private final long warmIntervalSeconds;
+    // 푸시 채널 연결 여부
+    private final BooleanSupplier pushConnected;
+    // 예열 요청 (새로 맺은 연결 수 반환)
+    private final IntSupplier warmUp;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "connection-warmer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private ScheduledFuture<?> warmTask;
+    // 탐지 후 첫 분석 요청 여부
+    private volatile boolean firstRequestPending;
+    // 탐지 후 첫 예열 여부 (푸시 채널 연결 중에도 첫 예열은 수행)
+    private volatile boolean warmPending;
+
+    // 응답 헤더까지 걸린 시간 (새 연결 / 예열 연결)
+    private long coldCount;
+    private long coldTotalMillis;
+    private long warmCount;
+    private long warmTotalMillis;
+
+    ConnectionWarmer(long warmIntervalSeconds, BooleanSupplier pushConnected, IntSupplier warmUp) {
+        this.warmIntervalSeconds = warmIntervalSeconds;
+        this.pushConnected = pushConnected;
+        this.warmUp = warmUp;
+    }
+
+    public static ConnectionWarmer getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * 게임 탐지 시 호출: 즉시 예열하고 주기적으로 연결 유지 (이미 동작 중이면 무시)
+     */
+    public synchronized void start() {
+        if (warmTask != null || warmIntervalSeconds <= 0) return;
+        firstRequestPending = true;
+        warmPending = true;
+        warmTask = scheduler.scheduleWithFixedDelay(this::warm, 0, warmIntervalSeconds, TimeUnit.SECONDS);
+        System.out.println("[DEBUG] 연결 예열 시작 (" + warmIntervalSeconds + "초 간격)");
+    }
+
+    /**
+     * 게임이 사라지면 호출: 예열 중단 (남은 연결은 연결 풀의 keep-alive 시간 후 정리)
+     */
+    public synchronized void stop() {
+        if (warmTask == null) return;
+        warmTask.cancel(false);
+        warmTask = null;
+        System.out.println("[DEBUG] 연결 예열 중단");
+    }
+
+    /**
+     * 예열 한 번 (탐지 직후가 아니고 푸시 채널이 연결되어 있으면 생략)
+     */
+    void warm() {
+        if (!warmPending && pushConnected.getAsBoolean()) {
+            // 서버가 살아 있는 것은 푸시 채널로 확인됨
+            return;
+        }
+        warmPending = false;
+        long start = System.nanoTime();
+        int opened = warmUp.getAsInt();
+        if (opened > 0) {
+            // 연결을 새로 맺은 경우만 로그
+            System.out.println("[DEBUG] 연결 예열 완료: 새 연결 " + opened + "개, " + (System.nanoTime() - start) / 1_000_000 + "ms, " +
+                SharedHttpClient.poolStats());
+        }
+    }
+
+    /**
+     * 분석 요청의 응답 헤더 수신까지 걸린 시간 기록
+     * @param warm 연결 풀의 연결을 재사용했는지 (그 호출에서 새 연결을 맺지 않았는지)
+     */
+    void recordRequest(boolean warm, long millis) {
+        String summary;
+        synchronized (this) {
+            if (warm) {
+                warmCount++;
+                warmTotalMillis += millis;
+            } else {
+                coldCount++;
+                coldTotalMillis += millis;
+            }
+            summary = stats();
+        }
+        String label = firstRequestPending ? "탐지 후 첫 분석 요청" : "분석 요청";
+        firstRequestPending = false;
+        System.out.println("[DEBUG] " + label + " (" + (warm ? "예열 연결" : "새 연결") + "): 응답 헤더까지 " +
+            millis + "ms - " + summary);
+    }
+
+    /**
+     * 새 연결/예열 연결 평균 응답 헤더 시간 문자열
+     */
+    public synchronized String stats() {
+        return String.format("새 연결 %d건 평균 %dms, 예열 연결 %d건 평균 %dms",
+            coldCount, coldCount > 0 ? coldTotalMillis / coldCount : 0,
+            warmCount, warmCount > 0 ? warmTotalMillis / warmCount : 0);
+    }
+}
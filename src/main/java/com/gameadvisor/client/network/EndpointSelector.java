@@ -0,0 +1,348 @@
+package com.gameadvisor.client.network;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+
+/**
+ * 여러 어드바이스 서버 중 요청 보낼 곳 선택 (클라이언트 측 부하 분산)
+ * - 응답 시간 EWMA x (진행 중 요청 수 + 1) 점수가 가장 낮은 서버 선택 (응답 기록이 없는 서버 우선)
+ * - 연속 실패한 서버는 일정 시간 제외 (다시 실패하면 제외 시간 2배, 최대 5분)
+ * - 서버별 실패는 여기서만 세고, ApiClient의 서킷 브레이커는 모든 서버가 제외됐거나 실패 중일 때만 실패로 셈
+ * - 인터셉터는 ApiClient가 자신의 클라이언트에 등록 (압축/본문 형식 재전송보다 바깥)
+ * - 연결 자체가 거부되면(요청 미전송) 다른 서버로 한 번 재시도
+ * - 선택적으로 게임 벡터 테이블 이름 기준 고정 배정 (rendezvous 해시, 서버가 제외되면 다음 순위로 이동)
+ *
+ * -Dgameadvisor.server.baseUrls=http://a:8080/api,http://b:8080/api (없으면 gameadvisor.server.baseUrl 하나)
+ * -Dgameadvisor.server.affinity=true (게임별 고정 배정, 기본 false)
+ * -Dgameadvisor.server.ejectAfterFailures=2 -Dgameadvisor.server.ejectSeconds=30
+ */
+public class EndpointSelector {
+
+    private static final String DEFAULT_BASE_URL = "http://192.168.75.232:8080/api";
+    private static final EndpointSelector INSTANCE = fromSystemProperties();
+
+    // 응답 시간 EWMA 가중치 (최근 값 비중)
+    private static final double EWMA_ALPHA = 0.3;
+    // 한동안 선택되지 않은 느린 서버도 다시 시도되도록 응답 기록을 시간에 따라 감쇠
+    private static final double EWMA_DECAY_MILLIS = 60_000.0;
+    private static final long MAX_EJECT_MILLIS = 5 * 60_000L;
+
+    /**
+     * 서버 하나의 상태
+     */
+    static class Endpoint {
+        final String baseUrl;
+        final AtomicInteger outstanding = new AtomicInteger();
+        // 응답 헤더까지 걸린 시간 EWMA (0이면 아직 기록 없음)
+        private double ewmaMillis;
+        private long lastSampleMillis;
+        private int consecutiveFailures;
+        private int ejections;
+        private long ejectedUntilMillis;
+        private long requestCount;
+        private long failureCount;
+
+        Endpoint(String baseUrl) {
+            this.baseUrl = baseUrl;
+        }
+
+        String url(String path) {
+            return baseUrl + path;
+        }
+
+        synchronized boolean isEjected(long now) {
+            return ejectedUntilMillis > now;
+        }
+
+        /**
+         * 제외 중이거나 마지막 요청이 실패했는지
+         */
+        synchronized boolean isFailing(long now) {
+            return isEjected(now) || consecutiveFailures > 0;
+        }
+
+        /**
+         * 제외 종료 시각 (System.currentTimeMillis, 제외된 적 없으면 0)
+         */
+        synchronized long ejectedUntilMillis() {
+            return ejectedUntilMillis;
+        }
+
+        /**
+         * 성공 없이 연달아 제외된 횟수
+         */
+        synchronized int ejections() {
+            return ejections;
+        }
+
+        synchronized double score(long now) {
+            double decay = Math.exp(-(now - lastSampleMillis) / EWMA_DECAY_MILLIS);
+            return ewmaMillis * decay * (outstanding.get() + 1);
+        }
+
+        @Override
+        public synchronized String toString() {
+            return String.format("%s(평균 %.0fms, 진행 %d, 요청 %d, 실패 %d%s)", baseUrl, ewmaMillis, outstanding.get(),
+                requestCount, failureCount, isEjected(System.currentTimeMillis()) ? ", 제외 중" : "");
+        }
+    }
+
+    /**
+     * 요청에 붙이는 고정 배정 키 (연결 실패로 다른 서버에 재시도할 때도 같은 키의 다음 순위 서버로 보내기 위함)
+     */
+    static final class AffinityTag {
+        final String key;
+
+        AffinityTag(String key) {
+            this.key = key;
+        }
+    }
+
+    private final List<Endpoint> endpoints;
+    private final boolean affinity;
+    private final int ejectAfterFailures;
+    private final long ejectMillis;
+
+    EndpointSelector(List<String> baseUrls) {
+        this(baseUrls, Boolean.getBoolean("gameadvisor.server.affinity"),
+            Integer.getInteger("gameadvisor.server.ejectAfterFailures", 2),
+            Long.getLong("gameadvisor.server.ejectSeconds", 30L) * 1000);
+    }
+
+    /**
+     * @param affinity 고정 배정 키가 있는 요청을 키별로 같은 서버에 보낼지
+     * @param ejectAfterFailures 이 횟수만큼 연속 실패하면 제외
+     * @param ejectMillis 첫 제외 시간 (다시 제외될 때마다 2배)
+     */
+    EndpointSelector(List<String> baseUrls, boolean affinity, int ejectAfterFailures, long ejectMillis) {
+        this.affinity = affinity;
+        this.ejectAfterFailures = ejectAfterFailures;
+        this.ejectMillis = ejectMillis;
+        List<Endpoint> list = new ArrayList<>();
+        for (String baseUrl : baseUrls) {
+            String trimmed = baseUrl.trim();
+            if (trimmed.isEmpty()) continue;
+            list.add(new Endpoint(trimmed.endsWith("/") ? trimmed.substring(0, trimmed.length() - 1) : trimmed));
+        }
+        if (list.isEmpty()) {
+            throw new IllegalArgumentException("서버 주소가 없습니다.");
+        }
+        this.endpoints = Collections.unmodifiableList(list);
+        System.out.println("[DEBUG] 어드바이스 서버 " + endpoints.size() + "개" + (affinity ? " (게임별 고정 배정)" : "") + ": " + baseUrls);
+    }
+
+    public static EndpointSelector getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * 시스템 프로퍼티의 서버 목록으로 생성
+     */
+    private static EndpointSelector fromSystemProperties() {
+        String baseUrls = System.getProperty("gameadvisor.server.baseUrls");
+        if (baseUrls == null || baseUrls.isBlank()) {
+            // -Dgameadvisor.server.baseUrl=http://localhost:18080/api 처럼 단일 서버로 변경 가능
+            baseUrls = System.getProperty("gameadvisor.server.baseUrl", DEFAULT_BASE_URL);
+        }
+        List<String> list = new ArrayList<>();
+        Collections.addAll(list, baseUrls.split(","));
+        return new EndpointSelector(list);
+    }
+
+    List<Endpoint> all() {
+        return endpoints;
+    }
+
+    /**
+     * 제외되지 않은 서버 목록 (모두 제외됐으면 전체)
+     */
+    List<Endpoint> available() {
+        long now = System.currentTimeMillis();
+        List<Endpoint> list = new ArrayList<>();
+        for (Endpoint endpoint : endpoints) {
+            if (!endpoint.isEjected(now)) list.add(endpoint);
+        }
+        return list.isEmpty() ? endpoints : list;
+    }
+
+    /**
+     * 모든 서버가 제외됐거나 마지막 요청이 실패했는지 (서버 하나만 실패하면 그 서버만 제외하고 나머지로 계속 요청)
+     */
+    boolean isEveryEndpointFailing() {
+        long now = System.currentTimeMillis();
+        for (Endpoint endpoint : endpoints) {
+            if (!endpoint.isFailing(now)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * 설정 순서상 첫 번째 정상 서버 (게임 목록처럼 디스크 캐시 키가 바뀌면 안 되는 조회용)
+     */
+    Endpoint preferred() {
+        return available().get(0);
+    }
+
+    /**
+     * 분석 요청을 보낼 서버 선택
+     * @param affinityKey 고정 배정 키 (게임 벡터 테이블 이름, 없으면 null)
+     */
+    Endpoint select(String affinityKey) {
+        return select(affinityKey, null);
+    }
+
+    /**
+     * @param exclude 후보에서 뺄 서버 (방금 연결에 실패한 서버, 다른 후보가 없으면 null 반환)
+     */
+    private Endpoint select(String affinityKey, Endpoint exclude) {
+        List<Endpoint> candidates = new ArrayList<>(available());
+        if (exclude != null) {
+            candidates.remove(exclude);
+            if (candidates.isEmpty()) return null;
+        }
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
+        if (affinity && affinityKey != null) {
+            return rendezvous(candidates, affinityKey);
+        }
+        long now = System.currentTimeMillis();
+        Endpoint best = null;
+        double bestScore = Double.MAX_VALUE;
+        for (Endpoint endpoint : candidates) {
+            double score = endpoint.score(now);
+            if (score < bestScore) {
+                best = endpoint;
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 키와 서버 조합의 해시가 가장 큰 서버 (서버가 빠지면 그 서버에 배정된 키만 다른 곳으로 이동)
+     */
+    private static Endpoint rendezvous(List<Endpoint> candidates, String key) {
+        Endpoint best = null;
+        long bestWeight = -1;
+        for (Endpoint endpoint : candidates) {
+            CRC32 crc = new CRC32();
+            crc.update((key + "|" + endpoint.baseUrl).getBytes(StandardCharsets.UTF_8));
+            long weight = crc.getValue();
+            if (weight > bestWeight) {
+                best = endpoint;
+                bestWeight = weight;
+            }
+        }
+        return best;
+    }
+
+    private Endpoint endpointFor(Request request) {
+        String url = request.url().toString();
+        for (Endpoint endpoint : endpoints) {
+            if (url.startsWith(endpoint.baseUrl)) return endpoint;
+        }
+        return null;
+    }
+
+    private void recordSuccess(Endpoint endpoint, long millis, boolean sampleLatency) {
+        synchronized (endpoint) {
+            endpoint.requestCount++;
+            endpoint.consecutiveFailures = 0;
+            endpoint.ejections = 0;
+            if (sampleLatency) {
+                endpoint.ewmaMillis = endpoint.ewmaMillis == 0
+                    ? millis
+                    : EWMA_ALPHA * millis + (1 - EWMA_ALPHA) * endpoint.ewmaMillis;
+                endpoint.lastSampleMillis = System.currentTimeMillis();
+            }
+        }
+    }
+
+    private void recordFailure(Endpoint endpoint, String reason) {
+        long ejectFor = 0;
+        synchronized (endpoint) {
+            endpoint.requestCount++;
+            endpoint.failureCount++;
+            endpoint.consecutiveFailures++;
+            if (endpoints.size() > 1 && endpoint.consecutiveFailures >= ejectAfterFailures) {
+                ejectFor = Math.min(MAX_EJECT_MILLIS, ejectMillis << Math.min(endpoint.ejections, 10));
+                endpoint.ejections++;
+                endpoint.consecutiveFailures = 0;
+                endpoint.ejectedUntilMillis = System.currentTimeMillis() + ejectFor;
+            }
+        }
+        if (ejectFor > 0) {
+            System.out.println("[DEBUG] 서버 " + endpoint.baseUrl + " " + (ejectFor / 1000) + "초간 제외 - " + reason);
+        }
+    }
+
+    /**
+     * 서버별 진행 중 요청 수/응답 시간/실패를 기록하는 인터셉터
+     * 디스크 캐시에서 바로 응답한 경우와 HEAD(예열/연결 확인)는 응답 시간에 넣지 않음
+     */
+    Interceptor interceptor() {
+        return chain -> {
+            Request request = chain.request();
+            Endpoint endpoint = endpointFor(request);
+            if (endpoint == null || request.cacheControl().onlyIfCached()) {
+                return chain.proceed(request);
+            }
+
+            try {
+                return proceed(chain, request, endpoint);
+            } catch (ConnectException e) {
+                // 연결이 거부되어 요청이 전송되지 않았으므로 다른 서버로 안전하게 재시도 (고정 배정 키가 있으면 그 키의 다음 순위 서버)
+                AffinityTag tag = request.tag(AffinityTag.class);
+                Endpoint fallback = select(tag != null ? tag.key : null, endpoint);
+                if (fallback == null || chain.call().isCanceled()) throw e;
+                String path = request.url().toString().substring(endpoint.baseUrl.length());
+                System.out.println("[DEBUG] 서버 " + endpoint.baseUrl + " 연결 실패, " + fallback.baseUrl + "로 재시도");
+                return proceed(chain, request.newBuilder().url(fallback.url(path)).build(), fallback);
+            }
+        };
+    }
+
+    private Response proceed(Interceptor.Chain chain, Request request, Endpoint endpoint) throws IOException {
+        endpoint.outstanding.incrementAndGet();
+        long start = System.nanoTime();
+        try {
+            Response response = chain.proceed(request);
+            if (CircuitBreaker.isServerFailure(response.code())) {
+                recordFailure(endpoint, "HTTP " + response.code());
+            } else if (response.networkResponse() != null) {
+                recordSuccess(endpoint, (System.nanoTime() - start) / 1_000_000, !"HEAD".equals(request.method()));
+            }
+            return response;
+        } catch (IOException e) {
+            if (!chain.call().isCanceled()) {
+                recordFailure(endpoint, e.toString());
+            }
+            throw e;
+        } finally {
+            endpoint.outstanding.decrementAndGet();
+        }
+    }
+
+    /**
+     * 서버별 현황 문자열
+     */
+    public String stats() {
+        StringBuilder sb = new StringBuilder();
+        for (Endpoint endpoint : endpoints) {
+            if (sb.length() > 0) sb.append(", ");
+            sb.append(endpoint);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,118 @@
+package com.gameadvisor.client.network;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.gameadvisor.client.model.Game;
+import com.gameadvisor.client.model.GameTips;
+import com.gameadvisor.client.model.PushMessage;
+import com.gameadvisor.client.model.ScreenAnalysisRequest;
+import com.gameadvisor.client.model.ScreenAnalysisResponse;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
+import okio.BufferedSink;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * API 요청/응답 JSON 변환
+ * 타입별 ObjectReader/ObjectWriter를 미리 만들어 두고, 응답은 Okio 소스에서 바로 읽고 요청은 싱크로 바로 써서
+ * 본문 전체를 담는 중간 String/byte[]를 만들지 않음
+ * 서버와 협상된 경우(WireFormat) 같은 모델을 Smile(바이너리 JSON)로 읽고 쓰며, 분석 요청 이미지는 원본 바이트로 실음
+ */
+final class JsonCodec {
+
+    static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+    static final MediaType SMILE = MediaType.get("application/x-jackson-smile");
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    // 바이너리는 7비트 변환 없이 원본 그대로 (이미지 크기 +14% 방지)
+    private static final SmileFactory SMILE_FACTORY = SmileFactory.builder()
+        .disable(SmileGenerator.Feature.ENCODE_BINARY_AS_7BIT)
+        .build();
+    // Smile 전용: imageBase64 문자열 대신 image 바이너리 필드
+    private static final ObjectMapper SMILE_MAPPER = new ObjectMapper(SMILE_FACTORY)
+        .addMixIn(ScreenAnalysisRequest.class, BinaryImageMixIn.class);
+
+    static final ObjectReader GAMES = MAPPER.readerFor(new TypeReference<List<Game>>() {});
+    static final ObjectReader ANALYSIS = MAPPER.readerFor(ScreenAnalysisResponse.class);
+    static final ObjectReader TIPS = MAPPER.readerFor(GameTips.class);
+    static final ObjectReader PUSH = MAPPER.readerFor(PushMessage.class);
+    static final ObjectReader TREE = MAPPER.readerFor(JsonNode.class);
+    // 싱크를 직렬화 후 닫지 않도록 대상 자동 닫기 해제
+    static final ObjectWriter WRITER = MAPPER.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    private static final ObjectWriter SMILE_WRITER = SMILE_MAPPER.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+    abstract static class BinaryImageMixIn {
+        @JsonIgnore
+        abstract String getImageBase64();
+
+        @JsonIgnore(false)
+        @JsonProperty("image")
+        abstract byte[] getImageBytes();
+    }
+
+    private JsonCodec() {
+    }
+
+    static boolean isSmile(MediaType contentType) {
+        return contentType != null && SMILE.type().equals(contentType.type()) && SMILE.subtype().equals(contentType.subtype());
+    }
+
+    /**
+     * 응답 본문을 소스에서 바로 역직렬화 (Content-Type이 Smile이면 Smile로)
+     */
+    static <T> T read(ObjectReader reader, ResponseBody body) throws IOException {
+        if (isSmile(body.contentType())) {
+            reader = reader.with(SMILE_FACTORY);
+        }
+        try (InputStream in = body.byteStream()) {
+            return reader.readValue(in);
+        }
+    }
+
+    /**
+     * 직렬화 결과를 바이트 배열로 (압축 등 전체 본문이 필요한 경우)
+     */
+    static byte[] toBytes(Object value) throws IOException {
+        return toBytes(value, false);
+    }
+
+    static byte[] toBytes(Object value, boolean smile) throws IOException {
+        return (smile ? SMILE_WRITER : WRITER).writeValueAsBytes(value);
+    }
+
+    /**
+     * 전송 시점에 싱크로 바로 직렬화하는 요청 본문
+     * 길이를 미리 알 수 없어 chunked로 전송되며, 재전송이 필요하면 다시 직렬화함
+     */
+    static RequestBody streamingBody(Object value) {
+        return streamingBody(value, false);
+    }
+
+    static RequestBody streamingBody(Object value, boolean smile) {
+        ObjectWriter writer = smile ? SMILE_WRITER : WRITER;
+        MediaType contentType = smile ? SMILE : JSON;
+        return new RequestBody() {
+            @Override
+            public MediaType contentType() {
+                return contentType;
+            }
+
+            @Override
+            public void writeTo(BufferedSink sink) throws IOException {
+                writer.writeValue(sink.outputStream(), value);
+            }
+        };
+    }
+}
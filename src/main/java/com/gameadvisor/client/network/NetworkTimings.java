@@ -0,0 +1,391 @@
+package com.gameadvisor.client.network;
+
+import okhttp3.Call;
+import okhttp3.EventListener;
+import okhttp3.HttpUrl;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 호출별 네트워크 구간 시간 측정 (OkHttp EventListener)
+ * DNS, 연결(TLS 포함), 요청 본문 업로드, 첫 바이트까지(서버 처리), 응답 본문 다운로드 시간과
+ * 보낸/받은 바이트 수를 호출마다 기록하고 엔드포인트(호스트 + 메서드 + 경로)별 히스토그램으로 집계
+ * 인터셉터가 같은 호출 안에서 재전송하면(압축/형식 거절, 다른 서버로 재시도) 시간은 마지막 시도 기준, 바이트는 합계
+ * 디스크 캐시에서 바로 응답한 호출은 집계하지 않음
+ * 본문을 보내는 요청(분석 요청 등)은 호출마다 구간 시간을 로그로 남김
+ * 요청에 CallTimings 태그를 붙이면 호출한 쪽에서도 그 호출의 측정값을 읽을 수 있음
+ */
+public class NetworkTimings {
+
+    private static final NetworkTimings INSTANCE = new NetworkTimings();
+
+    // 시간 히스토그램 구간 상한 (ms)
+    private static final long[] MILLIS_BOUNDS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10000, 30000};
+    // 크기 히스토그램 구간 상한 (bytes)
+    private static final long[] BYTES_BOUNDS = {1024, 4096, 16384, 65536, 262144, 1048576, 4194304};
+
+    /**
+     * 측정 항목 (히스토그램 순서)
+     */
+    enum Phase {
+        DNS("DNS", false),
+        CONNECT("연결", false),
+        UPLOAD("업로드", false),
+        FIRST_BYTE("첫 바이트", false),
+        DOWNLOAD("다운로드", false),
+        TOTAL("전체", false),
+        SENT("보냄", true),
+        RECEIVED("받음", true);
+
+        final String label;
+        final boolean bytes;
+
+        Phase(String label, boolean bytes) {
+            this.label = label;
+            this.bytes = bytes;
+        }
+    }
+
+    /**
+     * 고정 구간 히스토그램 (백분위는 해당 구간의 상한으로 근사)
+     */
+    static class Histogram {
+        private final long[] bounds;
+        private final long[] counts;
+        private long count;
+        private long sum;
+        private long max;
+
+        Histogram(long[] bounds) {
+            this.bounds = bounds;
+            this.counts = new long[bounds.length + 1];
+        }
+
+        void record(long value) {
+            int index = 0;
+            while (index < bounds.length && value > bounds[index]) {
+                index++;
+            }
+            counts[index]++;
+            count++;
+            sum += value;
+            max = Math.max(max, value);
+        }
+
+        long percentile(double p) {
+            if (count == 0) return 0;
+            long target = (long) Math.ceil(count * p);
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= target) {
+                    return i < bounds.length ? Math.min(bounds[i], max) : max;
+                }
+            }
+            return max;
+        }
+
+        long average() {
+            return count > 0 ? sum / count : 0;
+        }
+    }
+
+    /**
+     * 엔드포인트 하나의 집계
+     */
+    private static class EndpointTimings {
+        private final Histogram[] histograms = new Histogram[Phase.values().length];
+        private long calls;
+        private long failures;
+
+        EndpointTimings() {
+            for (Phase phase : Phase.values()) {
+                histograms[phase.ordinal()] = new Histogram(phase.bytes ? BYTES_BOUNDS : MILLIS_BOUNDS);
+            }
+        }
+    }
+
+    /**
+     * 호출 하나의 측정값을 요청한 쪽에 전달하는 태그 (Request.Builder.tag(CallTimings.class, ...)로 붙임)
+     * 응답 처리 시점(응답 헤더 수신 후)에 읽으며, 재전송한 호출은 마지막 시도 기준
+     */
+    static class CallTimings {
+        private volatile boolean newConnection;
+        private volatile long requestStartNanos;
+        private volatile long requestBodyEndNanos;
+        private volatile long responseHeadersNanos;
+
+        /**
+         * 응답의 요청에 붙은 태그 (태그가 없으면 null)
+         */
+        static CallTimings of(Response response) {
+            return response.request().tag(CallTimings.class);
+        }
+
+        /**
+         * 이 호출이 새 연결을 맺었는지 (connectStart 발생, 연결 풀의 연결을 재사용했으면 false)
+         */
+        boolean isNewConnection() {
+            return newConnection;
+        }
+
+        /**
+         * 요청 헤더 전송 시작 시각 (System.nanoTime, 아직 보내지 않았으면 0)
+         */
+        long requestStartNanos() {
+            return requestStartNanos;
+        }
+
+        /**
+         * 요청 헤더 전송 시작부터 본문을 다 쓸 때까지의 시간 (업로드, 본문이 없거나 측정하지 못했으면 -1)
+         */
+        long uploadMillis() {
+            if (requestStartNanos == 0 || requestBodyEndNanos == 0) return -1;
+            return (requestBodyEndNanos - requestStartNanos) / 1_000_000;
+        }
+
+        /**
+         * 본문을 다 쓴 뒤 응답 헤더 수신 시작까지의 시간 (서버 처리, 측정하지 못했으면 -1)
+         */
+        long serverMillis() {
+            return responseHeadersNanos == 0 ? -1 : serverMillisUntil(responseHeadersNanos);
+        }
+
+        /**
+         * 본문을 다 쓴 뒤 주어진 시각(스트리밍 응답의 첫 토큰 등)까지의 시간 (측정하지 못했으면 -1)
+         */
+        long serverMillisUntil(long nanos) {
+            if (requestBodyEndNanos == 0) return -1;
+            return Math.max(0, (nanos - requestBodyEndNanos) / 1_000_000);
+        }
+    }
+
+    private final Map<String, EndpointTimings> endpoints = new TreeMap<>();
+
+    public static NetworkTimings getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * 공유 OkHttpClient에 등록할 리스너 팩토리 (호출마다 새 리스너)
+     */
+    EventListener.Factory factory() {
+        return call -> new CallTimer(call.request().tag(CallTimings.class));
+    }
+
+    /**
+     * 경로의 숫자 구간은 {id}로 묶음 (/games/1/tips -> /games/{id}/tips)
+     */
+    private static String endpointKey(Request request) {
+        HttpUrl url = request.url();
+        StringBuilder path = new StringBuilder();
+        for (String segment : url.pathSegments()) {
+            path.append('/').append(segment.matches("\\d+") ? "{id}" : segment);
+        }
+        return url.host() + ":" + url.port() + " " + request.method() + " " + path;
+    }
+
+    private void record(String key, long[] values, boolean failed) {
+        synchronized (this) {
+            EndpointTimings timings = endpoints.computeIfAbsent(key, k -> new EndpointTimings());
+            timings.calls++;
+            if (failed) {
+                timings.failures++;
+                return;
+            }
+            for (Phase phase : Phase.values()) {
+                timings.histograms[phase.ordinal()].record(values[phase.ordinal()]);
+            }
+        }
+    }
+
+    /**
+     * 호출 하나의 이벤트 시각 기록
+     */
+    private class CallTimer extends EventListener {
+        private long callStart;
+        private long dnsStart;
+        private long connectStart;
+        private long requestStart;
+        private long requestEnd;
+        private long responseStart;
+        private long responseBodyStart;
+        private long responseBodyEnd;
+        private final long[] values = new long[Phase.values().length];
+        private Request networkRequest;
+        private boolean hasBody;
+        // 요청한 쪽에 전달할 태그 (없으면 null)
+        private final CallTimings tag;
+
+        CallTimer(CallTimings tag) {
+            this.tag = tag;
+        }
+
+        @Override
+        public void callStart(Call call) {
+            callStart = System.nanoTime();
+        }
+
+        @Override
+        public void dnsStart(Call call, String domainName) {
+            dnsStart = System.nanoTime();
+        }
+
+        @Override
+        public void dnsEnd(Call call, String domainName, List<InetAddress> inetAddressList) {
+            values[Phase.DNS.ordinal()] += millisSince(dnsStart);
+        }
+
+        @Override
+        public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+            connectStart = System.nanoTime();
+            if (tag != null) {
+                tag.newConnection = true;
+            }
+        }
+
+        @Override
+        public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol) {
+            values[Phase.CONNECT.ordinal()] += millisSince(connectStart);
+        }
+
+        @Override
+        public void connectFailed(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol,
+                                  IOException ioe) {
+            values[Phase.CONNECT.ordinal()] += millisSince(connectStart);
+        }
+
+        @Override
+        public void requestHeadersStart(Call call) {
+            // 재전송하면 새 시도 기준으로 다시 측정
+            requestStart = System.nanoTime();
+            requestEnd = requestStart;
+            responseStart = 0;
+            responseBodyStart = 0;
+            responseBodyEnd = 0;
+            if (tag != null) {
+                tag.requestStartNanos = requestStart;
+                tag.requestBodyEndNanos = 0;
+                tag.responseHeadersNanos = 0;
+            }
+        }
+
+        @Override
+        public void requestHeadersEnd(Call call, Request request) {
+            networkRequest = request;
+            requestEnd = System.nanoTime();
+            values[Phase.SENT.ordinal()] += request.headers().byteCount();
+        }
+
+        @Override
+        public void requestBodyEnd(Call call, long byteCount) {
+            hasBody = true;
+            requestEnd = System.nanoTime();
+            values[Phase.SENT.ordinal()] += byteCount;
+            if (tag != null) {
+                tag.requestBodyEndNanos = requestEnd;
+            }
+        }
+
+        @Override
+        public void responseHeadersStart(Call call) {
+            responseStart = System.nanoTime();
+            if (tag != null) {
+                tag.responseHeadersNanos = responseStart;
+            }
+        }
+
+        @Override
+        public void responseHeadersEnd(Call call, Response response) {
+            values[Phase.RECEIVED.ordinal()] += response.headers().byteCount();
+        }
+
+        @Override
+        public void responseBodyStart(Call call) {
+            responseBodyStart = System.nanoTime();
+        }
+
+        @Override
+        public void responseBodyEnd(Call call, long byteCount) {
+            responseBodyEnd = System.nanoTime();
+            values[Phase.RECEIVED.ordinal()] += byteCount;
+        }
+
+        @Override
+        public void callEnd(Call call) {
+            finish(false);
+        }
+
+        @Override
+        public void callFailed(Call call, IOException ioe) {
+            finish(true);
+        }
+
+        private void finish(boolean failed) {
+            if (networkRequest == null) {
+                // 디스크 캐시 응답 또는 연결 전에 실패
+                return;
+            }
+            values[Phase.UPLOAD.ordinal()] = (requestEnd - requestStart) / 1_000_000;
+            values[Phase.FIRST_BYTE.ordinal()] = responseStart > 0 ? (responseStart - requestEnd) / 1_000_000 : 0;
+            values[Phase.DOWNLOAD.ordinal()] = responseBodyEnd > 0 ? (responseBodyEnd - responseBodyStart) / 1_000_000 : 0;
+            values[Phase.TOTAL.ordinal()] = millisSince(callStart);
+            String key = endpointKey(networkRequest);
+            record(key, values, failed);
+            if (hasBody && !failed) {
+                System.out.println("[DEBUG] 네트워크 구간: " + key + " - " + describe(values));
+            }
+        }
+    }
+
+    private static long millisSince(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    private static String describe(long[] values) {
+        StringBuilder sb = new StringBuilder();
+        for (Phase phase : Phase.values()) {
+            if (sb.length() > 0) sb.append(", ");
+            long value = values[phase.ordinal()];
+            sb.append(phase.label).append(' ').append(phase.bytes ? formatBytes(value) : value + "ms");
+        }
+        return sb.toString();
+    }
+
+    private static String formatBytes(long bytes) {
+        return bytes >= 1024 ? bytes / 1024 + "KB" : bytes + "B";
+    }
+
+    /**
+     * 엔드포인트별 구간 통계 (평균/p50/p90/최대, 한 줄에 엔드포인트 하나)
+     */
+    public synchronized String stats() {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, EndpointTimings> entry : endpoints.entrySet()) {
+            EndpointTimings timings = entry.getValue();
+            if (sb.length() > 0) sb.append('\n');
+            sb.append(entry.getKey()).append(" (").append(timings.calls).append("건, 실패 ").append(timings.failures).append(')');
+            for (Phase phase : Phase.values()) {
+                Histogram histogram = timings.histograms[phase.ordinal()];
+                if (histogram.count == 0 || histogram.max == 0) continue;
+                sb.append(String.format(" | %s 평균 %s p50 %s p90 %s 최대 %s", phase.label,
+                    format(phase, histogram.average()), format(phase, histogram.percentile(0.5)),
+                    format(phase, histogram.percentile(0.9)), format(phase, histogram.max)));
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String format(Phase phase, long value) {
+        return phase.bytes ? formatBytes(value) : value + "ms";
+    }
+}
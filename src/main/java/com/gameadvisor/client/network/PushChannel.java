@@ -0,0 +1,272 @@
+package com.gameadvisor.client.network;
+
+import com.gameadvisor.client.model.PushMessage;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 서버 푸시 채널 (WebSocket /push)
+ * 서버가 먼저 보내는 조언, 게임 목록 변경, 서버 상태 메시지를 받아 리스너에 전달
+ * - 하트비트: OkHttp ping/pong 프레임 (gameadvisor.push.heartbeatSeconds 간격, pong이 없으면 끊고 재연결)
+ * - 끊기면 지터를 섞은 지수 백오프로 재연결 (연결되면 백오프 초기화)
+ * - 연결되어 있는 동안은 서버가 살아 있으므로 연결 예열의 주기적 HEAD 요청을 보내지 않고,
+ *   서킷 브레이커가 차단 중이면 백오프를 기다리지 않고 바로 연결 확인
+ * - 서버가 푸시를 지원하지 않으면(핸드셰이크 404 등) 이번 실행 동안 재연결하지 않음 (기존 요청/응답 방식 유지)
+ *
+ * -Dgameadvisor.push.enabled=true -Dgameadvisor.push.heartbeatSeconds=15
+ * -Dgameadvisor.push.baseDelayMs=1000 -Dgameadvisor.push.maxDelayMs=60000 (재연결 백오프 시작/최대)
+ */
+public class PushChannel {
+
+    private static final PushChannel INSTANCE = new PushChannel(
+        Boolean.parseBoolean(System.getProperty("gameadvisor.push.enabled", "true")),
+        // 게임 목록과 같은 서버(설정 순서상 첫 번째 정상 서버)에 연결
+        () -> EndpointSelector.getInstance().preferred().url("/push"),
+        Long.getLong("gameadvisor.push.baseDelayMs", 1000L),
+        Long.getLong("gameadvisor.push.maxDelayMs", 60_000L));
+
+    private final boolean enabled;
+    private final Supplier<String> pushUrl;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "push-channel");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final List<Consumer<PushMessage>> listeners = new CopyOnWriteArrayList<>();
+
+    private boolean running;
+    private WebSocket socket;
+    private volatile boolean connected;
+    // 연속 재연결 시도 수 (백오프 지수)
+    private int attempts;
+    private ScheduledFuture<?> scheduledConnect;
+
+    // 지표
+    private long connectCount;
+    private long messageCount;
+
+    /**
+     * @param pushUrl 연결할 때마다 주소를 다시 구함 (서버 제외/복구 반영)
+     */
+    PushChannel(boolean enabled, Supplier<String> pushUrl, long baseDelayMillis, long maxDelayMillis) {
+        this.enabled = enabled;
+        this.pushUrl = pushUrl;
+        this.baseDelayMillis = baseDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+    }
+
+    public static PushChannel getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * 연결 시작 (이미 동작 중이면 무시)
+     */
+    public synchronized void start() {
+        if (!enabled || running) return;
+        running = true;
+        attempts = 0;
+        connect();
+    }
+
+    /**
+     * 연결 종료 (재연결 중단)
+     */
+    public synchronized void stop() {
+        if (!running) return;
+        running = false;
+        if (scheduledConnect != null) {
+            scheduledConnect.cancel(false);
+            scheduledConnect = null;
+        }
+        if (socket != null) {
+            socket.close(1000, "client shutdown");
+            socket = null;
+        }
+        connected = false;
+    }
+
+    public boolean isConnected() {
+        return connected;
+    }
+
+    /**
+     * 동작 중인지 (핸드셰이크가 거절되면 false로 바뀌고 재연결하지 않음)
+     */
+    synchronized boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 마지막 연결 이후 연속 재연결 시도 수
+     */
+    synchronized int getAttempts() {
+        return attempts;
+    }
+
+    synchronized long getConnectCount() {
+        return connectCount;
+    }
+
+    /**
+     * 푸시 메시지 알림 등록 (OkHttp 웹소켓 스레드에서 호출되므로 UI 갱신은 Platform.runLater로)
+     */
+    public void addListener(Consumer<PushMessage> listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Consumer<PushMessage> listener) {
+        listeners.remove(listener);
+    }
+
+    private synchronized void connect() {
+        scheduledConnect = null;
+        if (!running) return;
+        Request request = new Request.Builder()
+                .url(pushUrl.get())
+                .build();
+        socket = SharedHttpClient.forPush().newWebSocket(request, new Listener());
+    }
+
+    /**
+     * 지터 백오프 후 재연결 예약 (락 보유 상태에서 호출)
+     */
+    private void scheduleReconnectLocked() {
+        if (!running || scheduledConnect != null) return;
+        long delay = reconnectDelayMillis(attempts++, baseDelayMillis, maxDelayMillis);
+        scheduledConnect = scheduler.schedule(this::connect, delay, TimeUnit.MILLISECONDS);
+        System.out.println(String.format("[DEBUG] 푸시 채널: %.1f초 후 재연결", delay / 1000.0));
+    }
+
+    /**
+     * 재연결 대기 시간: 상한(base * 2^attempt, 최대 max)의 절반에서 상한 사이 무작위 (equal jitter)
+     */
+    static long reconnectDelayMillis(int attempt, long baseDelayMillis, long maxDelayMillis) {
+        long cap = Math.min(maxDelayMillis, baseDelayMillis << Math.min(attempt, 20));
+        return cap / 2 + ThreadLocalRandom.current().nextLong(cap / 2 + 1);
+    }
+
+    /**
+     * 서버가 살아 있음을 확인했을 때 차단 중인 서킷 브레이커를 바로 복구 시도
+     */
+    private void onServerAlive() {
+        CircuitBreaker breaker = ApiClient.getInstance().getCircuitBreaker();
+        if (breaker.getState() == CircuitBreaker.State.OPEN) {
+            breaker.probeNow();
+        }
+    }
+
+    private void dispatch(PushMessage message) {
+        for (Consumer<PushMessage> listener : listeners) {
+            try {
+                listener.accept(message);
+            } catch (RuntimeException e) {
+                System.err.println("푸시 메시지 리스너 오류: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 웹소켓 이벤트 처리 (이전 연결의 늦은 이벤트는 무시)
+     */
+    private class Listener extends WebSocketListener {
+
+        private boolean isCurrent(WebSocket webSocket) {
+            synchronized (PushChannel.this) {
+                return webSocket == socket;
+            }
+        }
+
+        @Override
+        public void onOpen(WebSocket webSocket, Response response) {
+            synchronized (PushChannel.this) {
+                if (webSocket != socket) return;
+                connected = true;
+                attempts = 0;
+                connectCount++;
+            }
+            System.out.println("[DEBUG] 푸시 채널 연결: " + webSocket.request().url() + " - " + stats());
+            onServerAlive();
+        }
+
+        @Override
+        public void onMessage(WebSocket webSocket, String text) {
+            if (!isCurrent(webSocket)) return;
+            PushMessage message;
+            try {
+                message = JsonCodec.PUSH.readValue(text);
+            } catch (IOException e) {
+                System.err.println("푸시 메시지 해석 실패: " + e.getMessage());
+                return;
+            }
+            synchronized (PushChannel.this) {
+                messageCount++;
+            }
+            if (message.is(PushMessage.HEALTH)) {
+                if ("ok".equals(message.getStatus())) {
+                    onServerAlive();
+                } else {
+                    System.out.println("[DEBUG] 푸시 채널 서버 상태: " + message.getStatus());
+                }
+            }
+            dispatch(message);
+        }
+
+        @Override
+        public void onClosing(WebSocket webSocket, int code, String reason) {
+            webSocket.close(1000, null);
+        }
+
+        @Override
+        public void onClosed(WebSocket webSocket, int code, String reason) {
+            disconnected(webSocket, "서버가 연결 종료 (" + code + ")", null);
+        }
+
+        @Override
+        public void onFailure(WebSocket webSocket, Throwable t, Response response) {
+            disconnected(webSocket, t.toString(), response);
+        }
+
+        private void disconnected(WebSocket webSocket, String reason, Response response) {
+            synchronized (PushChannel.this) {
+                if (webSocket != socket) return;
+                boolean wasConnected = connected;
+                connected = false;
+                socket = null;
+                if (response != null && response.code() != 101 && response.code() < 500) {
+                    // 핸드셰이크 거절: 서버가 푸시를 지원하지 않음
+                    running = false;
+                    System.out.println("[DEBUG] 서버가 푸시 채널을 지원하지 않음 (" + response.code() + ") - 요청/응답 방식만 사용");
+                    return;
+                }
+                if (wasConnected) {
+                    System.out.println("[DEBUG] 푸시 채널 끊김: " + reason);
+                }
+                scheduleReconnectLocked();
+            }
+        }
+    }
+
+    /**
+     * 푸시 채널 현황 문자열
+     */
+    public synchronized String stats() {
+        return String.format("%s, 연결 %d회, 메시지 %d건", connected ? "연결됨" : "끊김", connectCount, messageCount);
+    }
+}
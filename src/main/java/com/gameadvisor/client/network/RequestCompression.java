@@ -0,0 +1,152 @@
+package com.gameadvisor.client.network;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 요청 본문 압축 협상
+ * 서버가 응답 헤더 Accept-Encoding으로 지원을 알리면 분석 요청 본문을 gzip/deflate로 압축하고,
+ * 415(Unsupported Media Type)로 거절하면 같은 요청을 비압축으로 다시 전송하고, 비압축 본문이 같은 형식 그대로 받아들여졌을 때만 해당 인코딩을 끔
+ * (비압축 Smile 본문까지 거절되어 WireFormat이 JSON으로 바꿔 보낸 경우는 압축이 아닌 본문 형식 문제)
+ *
+ * -Dgameadvisor.http.requestCompression=auto|gzip|deflate|off (기본 auto: 서버가 알린 경우에만 압축)
+ * -Dgameadvisor.http.deflateLevel=1 (deflate 압축 레벨 1~9, 기본 1 = 가장 빠름)
+ */
+public class RequestCompression {
+
+    public static final String GZIP = "gzip";
+    public static final String DEFLATE = "deflate";
+
+    private static final RequestCompression INSTANCE = new RequestCompression();
+
+    // 이보다 작은 본문은 압축하지 않음
+    private static final int MIN_COMPRESS_BYTES = 1024;
+
+    private final String mode = System.getProperty("gameadvisor.http.requestCompression", "auto").toLowerCase(Locale.ROOT);
+    private final int deflateLevel = Integer.getInteger("gameadvisor.http.deflateLevel", Deflater.BEST_SPEED);
+
+    // 서버가 지원을 알린 인코딩 / 거절한 인코딩
+    private final Set<String> advertised = ConcurrentHashMap.newKeySet();
+    private final Set<String> rejected = ConcurrentHashMap.newKeySet();
+
+    // 누적 압축 전/후 크기
+    private final AtomicLong totalOriginalBytes = new AtomicLong();
+    private final AtomicLong totalCompressedBytes = new AtomicLong();
+
+    public static RequestCompression getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * 지금 설정/협상 상태로 압축할 수 있는 인코딩이 있는지 (없으면 본문을 버퍼링하지 않고 바로 스트리밍)
+     */
+    boolean mayCompress() {
+        return chooseEncoding(Integer.MAX_VALUE) != null;
+    }
+
+    /**
+     * 본문에 사용할 인코딩 결정 (압축하지 않으면 null)
+     */
+    String chooseEncoding(int bodyBytes) {
+        if (bodyBytes < MIN_COMPRESS_BYTES || "off".equals(mode)) {
+            return null;
+        }
+        if (GZIP.equals(mode) || DEFLATE.equals(mode)) {
+            return rejected.contains(mode) ? null : mode;
+        }
+        // auto: 서버가 알린 인코딩 중 더 빠른 deflate 우선
+        if (advertised.contains(DEFLATE) && !rejected.contains(DEFLATE)) return DEFLATE;
+        if (advertised.contains(GZIP) && !rejected.contains(GZIP)) return GZIP;
+        return null;
+    }
+
+    /**
+     * 본문 압축 후 전/후 크기 기록
+     */
+    byte[] compress(byte[] body, String encoding) throws IOException {
+        long start = System.nanoTime();
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(body.length / 2);
+        if (GZIP.equals(encoding)) {
+            try (GZIPOutputStream out = new GZIPOutputStream(baos, 8192)) {
+                out.write(body);
+            }
+        } else {
+            Deflater deflater = new Deflater(deflateLevel);
+            try (DeflaterOutputStream out = new DeflaterOutputStream(baos, deflater, 8192)) {
+                out.write(body);
+            } finally {
+                deflater.end();
+            }
+        }
+        byte[] compressed = baos.toByteArray();
+
+        long original = totalOriginalBytes.addAndGet(body.length);
+        long total = totalCompressedBytes.addAndGet(compressed.length);
+        System.out.println(String.format("[DEBUG] 요청 본문 압축(%s): %d -> %d bytes (%.1f%%), %dms, 누적 %d -> %d bytes",
+            encoding, body.length, compressed.length, 100.0 * compressed.length / body.length,
+            (System.nanoTime() - start) / 1_000_000, original, total));
+        return compressed;
+    }
+
+    public long getTotalOriginalBytes() {
+        return totalOriginalBytes.get();
+    }
+
+    public long getTotalCompressedBytes() {
+        return totalCompressedBytes.get();
+    }
+
+    /**
+     * 응답 헤더로 지원 인코딩 학습, 415 거절 시 비압축으로 재전송하는 인터셉터
+     */
+    Interceptor interceptor() {
+        return chain -> {
+            Request request = chain.request();
+            Response response = chain.proceed(request);
+            learn(response);
+
+            String encoding = request.header("Content-Encoding");
+            if (response.code() != 415 || encoding == null || !(request.body() instanceof TimedRequestBody)) {
+                return response;
+            }
+
+            TimedRequestBody body = (TimedRequestBody) request.body();
+            MediaType sentType = body.contentType();
+            if (!body.fallbackToUncompressed()) {
+                return response;
+            }
+            response.close();
+            System.out.println("[DEBUG] 서버가 " + encoding + " 요청 본문을 거절 - 비압축으로 재전송");
+            Response retried = chain.proceed(request.newBuilder().removeHeader("Content-Encoding").build());
+            if (retried.code() != 415 && sentType.equals(body.contentType())) {
+                rejected.add(encoding);
+                advertised.remove(encoding);
+                System.out.println("[DEBUG] 비압축 본문은 수신 - " + encoding + " 압축 중단");
+            }
+            return retried;
+        };
+    }
+
+    private void learn(Response response) {
+        String accepted = response.header("Accept-Encoding");
+        if (accepted == null) return;
+        for (String token : accepted.split(",")) {
+            String name = token.trim().toLowerCase(Locale.ROOT);
+            if ((GZIP.equals(name) || DEFLATE.equals(name)) && !rejected.contains(name) && advertised.add(name)) {
+                System.out.println("[DEBUG] 서버가 요청 본문 압축 지원: " + name);
+            }
+        }
+    }
+}
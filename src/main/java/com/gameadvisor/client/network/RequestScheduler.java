@@ -0,0 +1,214 @@
+package com.gameadvisor.client.network;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * ApiClient 요청 우선순위 스케줄러 (OkHttp 디스패처 앞단)
+ * - 우선순위: INTERACTIVE(사용자 화면 분석) > BACKGROUND(게임 목록, 스풀 재전송, 미리 받기) > TELEMETRY(연결 확인/예열)
+ * - 우선순위별 동시 실행 수 제한, 제한을 넘으면 우선순위별 대기열에서 순서대로 대기
+ * - INTERACTIVE 요청이 실행 중이거나 대기 중이면 낮은 우선순위 요청은 새로 시작하지 않음 (업로드 대역폭/연결 양보)
+ * - 대기 시간을 우선순위별로 기록
+ *
+ * -Dgameadvisor.scheduler.interactive=4 -Dgameadvisor.scheduler.background=2 -Dgameadvisor.scheduler.telemetry=1
+ */
+public class RequestScheduler {
+
+    public enum Priority { INTERACTIVE, BACKGROUND, TELEMETRY }
+
+    private static final RequestScheduler INSTANCE = new RequestScheduler();
+
+    /**
+     * 동기 요청의 실행 허가 (finally에서 close로 반환)
+     */
+    public interface Permit extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private static class Pending {
+        final Priority priority;
+        final long enqueuedNanos = System.nanoTime();
+        final Runnable start;
+
+        Pending(Priority priority, Runnable start) {
+            this.priority = priority;
+            this.start = start;
+        }
+    }
+
+    private final int[] limits = new int[Priority.values().length];
+    private final int[] running = new int[Priority.values().length];
+    private final Map<Priority, ArrayDeque<Pending>> queues = new EnumMap<>(Priority.class);
+
+    // 지표 (우선순위별)
+    private final long[] startedCount = new long[Priority.values().length];
+    private final long[] queuedCount = new long[Priority.values().length];
+    private final long[] totalWaitMillis = new long[Priority.values().length];
+    private final long[] maxWaitMillis = new long[Priority.values().length];
+
+    RequestScheduler() {
+        int[] defaults = {4, 2, 1};
+        for (Priority priority : Priority.values()) {
+            String name = priority.name().toLowerCase(Locale.ROOT);
+            limits[priority.ordinal()] = Math.max(1,
+                Integer.getInteger("gameadvisor.scheduler." + name, defaults[priority.ordinal()]));
+            queues.put(priority, new ArrayDeque<>());
+        }
+    }
+
+    public static RequestScheduler getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * 우선순위별 동시 실행 제한의 합 (디스패처의 호스트별 제한을 이 이상으로 두어 디스패처 대기열에서 섞이지 않도록)
+     */
+    int totalLimit() {
+        int total = 0;
+        for (int limit : limits) {
+            total += limit;
+        }
+        return total;
+    }
+
+    /**
+     * 비동기 요청 예약: 실행 가능해지면 call을 호출하고 그 결과를 반환한 future로 전달
+     * 반환한 future가 먼저 끝나면(취소, orTimeout 시간 초과 등) 대기 중이면 대기열에서 빠지고,
+     * 실행 중이면 실제 호출도 취소하여 실행 슬롯을 바로 반환
+     */
+    <T> CompletableFuture<T> submit(Priority priority, Supplier<CompletableFuture<T>> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Pending pending = new Pending(priority, () -> {
+            if (result.isDone()) {
+                // 대기 중 취소된 요청
+                release(priority);
+                return;
+            }
+            CompletableFuture<T> inner;
+            try {
+                inner = call.get();
+            } catch (RuntimeException e) {
+                release(priority);
+                result.completeExceptionally(e);
+                return;
+            }
+            inner.whenComplete((value, error) -> {
+                release(priority);
+                if (error != null) {
+                    result.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error);
+                } else {
+                    result.complete(value);
+                }
+            });
+            result.whenComplete((value, error) -> {
+                if (!inner.isDone()) inner.cancel(true);
+            });
+        });
+        enqueue(pending);
+        result.whenComplete((value, error) -> removeQueued(pending));
+        return result;
+    }
+
+    /**
+     * 동기 요청 허가를 받을 때까지 대기
+     */
+    Permit acquire(Priority priority) throws InterruptedException {
+        CompletableFuture<Void> admitted = new CompletableFuture<>();
+        Pending pending = new Pending(priority, () -> admitted.complete(null));
+        enqueue(pending);
+        try {
+            admitted.get();
+        } catch (InterruptedException e) {
+            if (!removeQueued(pending)) {
+                // 허가를 받은 직후 인터럽트된 경우 반환
+                release(priority);
+            }
+            throw e;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+        return () -> release(priority);
+    }
+
+    private void enqueue(Pending pending) {
+        synchronized (this) {
+            queues.get(pending.priority).add(pending);
+        }
+        drain();
+    }
+
+    private synchronized boolean removeQueued(Pending pending) {
+        return queues.get(pending.priority).remove(pending);
+    }
+
+    private void release(Priority priority) {
+        synchronized (this) {
+            running[priority.ordinal()]--;
+        }
+        drain();
+    }
+
+    /**
+     * 실행 가능한 요청을 우선순위 순으로 시작 (락 밖에서 시작하여 콜백 재진입 허용)
+     */
+    private void drain() {
+        while (true) {
+            Pending next = null;
+            synchronized (this) {
+                for (Priority priority : Priority.values()) {
+                    int index = priority.ordinal();
+                    ArrayDeque<Pending> queue = queues.get(priority);
+                    if (queue.isEmpty() || running[index] >= limits[index]) continue;
+                    if (priority != Priority.INTERACTIVE && interactiveActive()) break;
+                    next = queue.poll();
+                    running[index]++;
+                    recordStart(next);
+                    break;
+                }
+            }
+            if (next == null) return;
+            next.start.run();
+        }
+    }
+
+    private boolean interactiveActive() {
+        return running[Priority.INTERACTIVE.ordinal()] > 0 || !queues.get(Priority.INTERACTIVE).isEmpty();
+    }
+
+    private void recordStart(Pending pending) {
+        int index = pending.priority.ordinal();
+        long waitMillis = (System.nanoTime() - pending.enqueuedNanos) / 1_000_000;
+        startedCount[index]++;
+        if (waitMillis > 0) {
+            queuedCount[index]++;
+            totalWaitMillis[index] += waitMillis;
+            maxWaitMillis[index] = Math.max(maxWaitMillis[index], waitMillis);
+        }
+        if (waitMillis >= 100) {
+            System.out.println("[DEBUG] 요청 스케줄러: " + pending.priority + " 요청 " + waitMillis + "ms 대기 후 시작");
+        }
+    }
+
+    /**
+     * 우선순위별 현황 문자열 (실행/제한, 대기, 대기 시간)
+     */
+    public synchronized String stats() {
+        StringBuilder sb = new StringBuilder();
+        for (Priority priority : Priority.values()) {
+            int index = priority.ordinal();
+            if (sb.length() > 0) sb.append(", ");
+            sb.append(String.format("%s 실행 %d/%d 대기 %d (시작 %d건, 대기했던 %d건 평균 %dms 최대 %dms)",
+                priority, running[index], limits[index], queues.get(priority).size(), startedCount[index], queuedCount[index],
+                queuedCount[index] > 0 ? totalWaitMillis[index] / queuedCount[index] : 0, maxWaitMillis[index]));
+        }
+        return sb.toString();
+    }
+}
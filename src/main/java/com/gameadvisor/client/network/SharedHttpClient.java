@@ -0,0 +1,166 @@
+package com.gameadvisor.client.network;
+
+import okhttp3.Cache;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Response;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 프로세스 전체에서 공유하는 OkHttpClient
+ * 연결 풀/디스패처를 하나만 두어 모든 요청이 따뜻한(keep-alive) 연결을 재사용하도록 함
+ * 엔드포인트별 타임아웃은 newBuilder()로 파생한 클라이언트로 적용 (풀/디스패처는 그대로 공유)
+ * 서버 선택 인터셉터(EndpointSelector)는 ApiClient가 파생 클라이언트에 맨 앞으로 추가
+ *
+ * 풀 크기 등은 시스템 프로퍼티로 조정 가능
+ * -Dgameadvisor.http.maxIdleConnections=5 -Dgameadvisor.http.keepAliveSeconds=300
+ * -Dgameadvisor.http.maxRequests=16 -Dgameadvisor.http.maxRequestsPerHost=7
+ * (호스트별 기본값은 RequestScheduler 우선순위별 제한의 합: 우선순위 순서는 스케줄러가 정하고 디스패처에서는 대기하지 않도록)
+ * -Dgameadvisor.http.cacheBytes=10485760 (게임 목록 등 GET 응답 디스크 캐시 크기)
+ */
+public class SharedHttpClient {
+
+    private static final ConnectionPool CONNECTION_POOL = new ConnectionPool(
+        Integer.getInteger("gameadvisor.http.maxIdleConnections", 5),
+        Long.getLong("gameadvisor.http.keepAliveSeconds", 300L),
+        TimeUnit.SECONDS
+    );
+
+    private static final Dispatcher DISPATCHER = createDispatcher();
+
+    // GET 응답 디스크 캐시 (ETag/Last-Modified 재검증)
+    private static final Cache CACHE = new Cache(
+        new File(System.getProperty("user.home"), ".gameadvisor" + File.separator + "http-cache"),
+        Long.getLong("gameadvisor.http.cacheBytes", 10L * 1024 * 1024)
+    );
+
+    // 공통 설정 (기본 타임아웃)
+    private static final OkHttpClient BASE = new OkHttpClient.Builder()
+            .connectionPool(CONNECTION_POOL)
+            .dispatcher(DISPATCHER)
+            .connectTimeout(10, TimeUnit.SECONDS)
+            .writeTimeout(30, TimeUnit.SECONDS)
+            .readTimeout(30, TimeUnit.SECONDS)
+            // 호출별 DNS/연결/업로드/첫 바이트/다운로드 시간을 엔드포인트별로 집계
+            .eventListenerFactory(NetworkTimings.getInstance().factory())
+            // 요청 본문 압축 협상 (서버 지원 학습, 거절 시 비압축 재전송)
+            .addInterceptor(RequestCompression.getInstance().interceptor())
+            // 본문 형식 협상 (Smile 우선 요청, 거절 시 JSON 재전송)
+            .addInterceptor(WireFormat.getInstance().interceptor())
+            .build();
+
+    // 연결 확인: 빠르게 실패해야 재시도 루프가 밀리지 않음
+    private static final OkHttpClient PING = BASE.newBuilder()
+            .connectTimeout(3, TimeUnit.SECONDS)
+            .readTimeout(3, TimeUnit.SECONDS)
+            .callTimeout(5, TimeUnit.SECONDS)
+            .build();
+
+    // 게임 목록 등 작은 JSON 조회 (디스크 캐시 사용)
+    private static final OkHttpClient CATALOG = BASE.newBuilder()
+            .readTimeout(15, TimeUnit.SECONDS)
+            .cache(CACHE)
+            .addNetworkInterceptor(chain -> alwaysRevalidate(chain.proceed(chain.request())))
+            .build();
+
+    // 이미지 분석: 업로드와 LLM 응답 대기가 길어 타임아웃을 늘림
+    private static final OkHttpClient ANALYSIS = BASE.newBuilder()
+            .writeTimeout(60, TimeUnit.SECONDS)
+            .readTimeout(60, TimeUnit.SECONDS)
+            .build();
+
+    // 푸시 채널(WebSocket): ping/pong 하트비트, pong이 없으면 연결 실패로 처리
+    private static final OkHttpClient PUSH = BASE.newBuilder()
+            .pingInterval(Long.getLong("gameadvisor.push.heartbeatSeconds", 15L), TimeUnit.SECONDS)
+            .build();
+
+    /**
+     * 캐시 정책이 없거나 no-cache인 응답은 max-age=0으로 저장
+     * 네트워크 요청은 매번 재검증(ETag/Last-Modified가 있으면 조건부 요청 -> 변경 없을 때 304만 받음)하고,
+     * no-cache와 달리 FORCE_CACHE로 디스크에서 바로 읽을 수도 있음 (no-store는 그대로 존중)
+     */
+    private static Response alwaysRevalidate(Response response) {
+        String cacheControl = response.header("Cache-Control");
+        if (cacheControl != null && !cacheControl.contains("no-cache")) {
+            return response;
+        }
+        return response.newBuilder()
+                .removeHeader("Pragma")
+                .header("Cache-Control", "max-age=0")
+                .build();
+    }
+
+    private static Dispatcher createDispatcher() {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(Integer.getInteger("gameadvisor.http.maxRequests", 16));
+        dispatcher.setMaxRequestsPerHost(Integer.getInteger("gameadvisor.http.maxRequestsPerHost",
+            RequestScheduler.getInstance().totalLimit()));
+        return dispatcher;
+    }
+
+    public static OkHttpClient base() {
+        return BASE;
+    }
+
+    public static OkHttpClient forPing() {
+        return PING;
+    }
+
+    public static OkHttpClient forCatalog() {
+        return CATALOG;
+    }
+
+    public static OkHttpClient forAnalysis() {
+        return ANALYSIS;
+    }
+
+    public static OkHttpClient forPush() {
+        return PUSH;
+    }
+
+    /**
+     * 연결 풀/디스패처 현황 문자열
+     */
+    public static String poolStats() {
+        return String.format("연결 %d개 (유휴 %d개), 실행 중 %d건, 대기 %d건",
+            CONNECTION_POOL.connectionCount(), CONNECTION_POOL.idleConnectionCount(),
+            DISPATCHER.runningCallsCount(), DISPATCHER.queuedCallsCount());
+    }
+
+    /**
+     * 디스크 캐시 현황 문자열
+     */
+    public static String cacheStats() {
+        try {
+            return String.format("요청 %d건 (캐시 적중 %d건, 네트워크 %d건), %d / %d bytes",
+                CACHE.requestCount(), CACHE.hitCount(), CACHE.networkCount(), CACHE.size(), CACHE.maxSize());
+        } catch (IOException e) {
+            return "캐시 조회 실패: " + e.getMessage();
+        }
+    }
+
+    public static int connectionCount() {
+        return CONNECTION_POOL.connectionCount();
+    }
+
+    public static int idleConnectionCount() {
+        return CONNECTION_POOL.idleConnectionCount();
+    }
+
+    /**
+     * 종료 시 유휴 연결 정리
+     */
+    public static void shutdown() {
+        CONNECTION_POOL.evictAll();
+        DISPATCHER.executorService().shutdown();
+        try {
+            CACHE.close();
+        } catch (IOException e) {
+            System.err.println("HTTP 캐시 닫기 실패: " + e.getMessage());
+        }
+    }
+}
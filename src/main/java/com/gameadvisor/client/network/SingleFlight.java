@@ -0,0 +1,106 @@
+package com.gameadvisor.client.network;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 요청이 진행 중이면 새로 보내지 않고 진행 중인 호출의 결과를 함께 받도록 묶음 (single-flight)
+ * 호출자마다 별도의 future를 돌려주므로 한 호출자의 취소/타임아웃이 다른 호출자에게 번지지 않고,
+ * 기다리는 호출자가 모두 떠나면 실제 호출도 취소
+ */
+class SingleFlight<K, V> {
+
+    private static class Flight<V> {
+        final CompletableFuture<V> call;
+        int waiters;
+
+        Flight(CompletableFuture<V> call) {
+            this.call = call;
+        }
+    }
+
+    private final String name;
+    private final Map<K, Flight<V>> flights = new HashMap<>();
+
+    // 지표
+    private final AtomicLong startedCount = new AtomicLong();
+    private final AtomicLong joinedCount = new AtomicLong();
+
+    SingleFlight(String name) {
+        this.name = name;
+    }
+
+    /**
+     * @param call 진행 중인 같은 키의 호출이 없을 때만 실행
+     */
+    CompletableFuture<V> execute(K key, Supplier<CompletableFuture<V>> call) {
+        Flight<V> flight;
+        boolean joined;
+        synchronized (this) {
+            flight = flights.get(key);
+            joined = flight != null && !flight.call.isDone();
+            if (!joined) {
+                flight = new Flight<>(call.get());
+                flights.put(key, flight);
+                Flight<V> started = flight;
+                // 완료되면 다음 요청은 새로 전송
+                started.call.whenComplete((result, error) -> remove(key, started));
+            }
+            flight.waiters++;
+        }
+
+        if (joined) {
+            System.out.println("[DEBUG] " + name + ": 진행 중인 동일 요청에 합류 (대기 " + flight.waiters + "명)");
+            joinedCount.incrementAndGet();
+        } else {
+            startedCount.incrementAndGet();
+        }
+        return view(flight);
+    }
+
+    private synchronized void remove(K key, Flight<V> flight) {
+        flights.remove(key, flight);
+    }
+
+    /**
+     * 호출자별 future: 공유 호출 결과를 그대로 전달하고, 먼저 끝나면(취소/타임아웃) 대기자 수만 줄임
+     */
+    private CompletableFuture<V> view(Flight<V> flight) {
+        CompletableFuture<V> view = new CompletableFuture<>();
+        flight.call.whenComplete((result, error) -> {
+            if (error != null) {
+                view.completeExceptionally(unwrap(error));
+            } else {
+                view.complete(result);
+            }
+        });
+        view.whenComplete((result, error) -> {
+            // 합류와 엇갈리지 않도록 대기자 수 확인과 취소를 한 번에 처리
+            synchronized (this) {
+                if (flight.call.isDone() || --flight.waiters > 0) return;
+                System.out.println("[DEBUG] " + name + ": 대기자가 모두 떠나 호출 취소");
+                flight.call.cancel(true);
+            }
+        });
+        return view;
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            return error.getCause();
+        }
+        return error;
+    }
+
+    long getStartedCount() {
+        return startedCount.get();
+    }
+
+    long getJoinedCount() {
+        return joinedCount.get();
+    }
+}
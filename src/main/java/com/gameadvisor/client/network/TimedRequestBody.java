@@ -0,0 +1,107 @@
+package com.gameadvisor.client.network;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.ForwardingSink;
+import okio.Okio;
+
+import java.io.IOException;
+
+/**
+ * 요청 본문 전송량을 측정하는 RequestBody 래퍼
+ * 본문을 소켓 송신 버퍼에 다 쓴 시점은 서버가 받은 시점보다 이르므로 전송 시간은 여기서 재지 않고
+ * 요청에 붙인 NetworkTimings.CallTimings(응답 헤더 수신까지의 시간)로 측정
+ * 압축된 본문이면 서버가 거절했을 때 비압축 본문으로 바꿔 다시 보낼 수 있도록 원본도 함께 보관
+ * Smile 본문이면 같은 이유로 JSON 본문도 함께 보관
+ * 길이를 미리 모르는 스트리밍 본문은 실제로 쓴 바이트 수를 세어 전송량으로 사용
+ */
+class TimedRequestBody extends RequestBody {
+
+    private volatile RequestBody delegate;
+    private volatile RequestBody uncompressed;
+    private volatile RequestBody json;
+    private final String contentEncoding;
+    private volatile long bytesWritten;
+
+    TimedRequestBody(RequestBody delegate) {
+        this(delegate, null, null);
+    }
+
+    /**
+     * @param uncompressed 압축 전 본문 (압축하지 않았으면 null)
+     * @param contentEncoding 압축 인코딩 (gzip/deflate, 압축하지 않았으면 null)
+     */
+    TimedRequestBody(RequestBody delegate, RequestBody uncompressed, String contentEncoding) {
+        this(delegate, uncompressed, contentEncoding, null);
+    }
+
+    /**
+     * @param json Smile 본문을 거절당했을 때 보낼 JSON 본문 (JSON 본문이면 null)
+     */
+    TimedRequestBody(RequestBody delegate, RequestBody uncompressed, String contentEncoding, RequestBody json) {
+        this.delegate = delegate;
+        this.uncompressed = uncompressed;
+        this.contentEncoding = contentEncoding;
+        this.json = json;
+    }
+
+    @Override
+    public MediaType contentType() {
+        return delegate.contentType();
+    }
+
+    @Override
+    public long contentLength() throws IOException {
+        return delegate.contentLength();
+    }
+
+    @Override
+    public void writeTo(BufferedSink sink) throws IOException {
+        long[] count = new long[1];
+        BufferedSink counting = Okio.buffer(new ForwardingSink(sink) {
+            @Override
+            public void write(Buffer source, long byteCount) throws IOException {
+                count[0] += byteCount;
+                super.write(source, byteCount);
+            }
+        });
+        delegate.writeTo(counting);
+        counting.emit();
+        bytesWritten = count[0];
+    }
+
+    /**
+     * 전송한 본문 크기 (길이를 미리 알면 그 값, 스트리밍 본문이면 실제로 쓴 바이트 수)
+     */
+    long getBodyBytes() throws IOException {
+        long length = contentLength();
+        return length >= 0 ? length : bytesWritten;
+    }
+
+    String getContentEncoding() {
+        return contentEncoding;
+    }
+
+    /**
+     * 비압축 본문으로 교체 (교체할 원본이 없으면 false)
+     */
+    boolean fallbackToUncompressed() {
+        if (uncompressed == null) return false;
+        delegate = uncompressed;
+        uncompressed = null;
+        return true;
+    }
+
+    /**
+     * JSON 본문으로 교체 (Smile 본문이 아니면 false)
+     */
+    boolean fallbackToJson() {
+        if (json == null) return false;
+        delegate = json;
+        uncompressed = null;
+        json = null;
+        return true;
+    }
+}
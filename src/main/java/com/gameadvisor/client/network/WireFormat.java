@@ -0,0 +1,78 @@
+package com.gameadvisor.client.network;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+
+import java.util.Locale;
+
+/**
+ * API 본문 형식 협상 (JSON / Smile 바이너리 JSON)
+ * 요청마다 Accept로 Smile을 우선 요청하고, 서버가 Smile로 응답하면 이후 분석 요청 본문도 Smile로 전송
+ * (이미지는 Base64 문자열 대신 원본 바이트로 실림)
+ * 서버가 Smile 요청 본문을 415로 거절하면 Smile 전송을 끄고 같은 요청을 JSON으로 다시 전송
+ * (압축된 본문의 415는 원인이 압축일 수 있으므로 바깥의 RequestCompression이 비압축으로 먼저 재전송하고, 그것도 거절될 때만 Smile을 끔)
+ *
+ * -Dgameadvisor.http.wireFormat=auto|smile|json (기본 auto: 서버가 Smile로 응답한 경우에만 Smile 전송)
+ */
+public class WireFormat {
+
+    private static final WireFormat INSTANCE = new WireFormat();
+
+    private static final String ACCEPT = JsonCodec.SMILE + ", " + "application/json;q=0.9";
+
+    private final String mode = System.getProperty("gameadvisor.http.wireFormat", "auto").toLowerCase(Locale.ROOT);
+
+    // 서버가 Smile로 응답한 적 있음 / Smile 요청 본문을 거절함
+    private volatile boolean advertised;
+    private volatile boolean rejected;
+
+    public static WireFormat getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * 요청 본문을 Smile로 보낼지
+     */
+    boolean useSmile() {
+        if ("json".equals(mode) || rejected) return false;
+        return "smile".equals(mode) || advertised;
+    }
+
+    /**
+     * Accept 헤더 추가, 응답 형식 학습, Smile 본문 415 거절 시 JSON으로 재전송하는 인터셉터
+     * (스트리밍처럼 Accept를 직접 지정한 요청은 그대로 둠)
+     */
+    Interceptor interceptor() {
+        return chain -> {
+            Request request = chain.request();
+            if (!"json".equals(mode) && request.header("Accept") == null) {
+                request = request.newBuilder().header("Accept", ACCEPT).build();
+            }
+            Response response = chain.proceed(request);
+            learn(response);
+
+            RequestBody body = request.body();
+            if (response.code() != 415 || request.header("Content-Encoding") != null || body == null
+                    || !JsonCodec.isSmile(body.contentType())
+                    || !(body instanceof TimedRequestBody) || !((TimedRequestBody) body).fallbackToJson()) {
+                return response;
+            }
+            response.close();
+            rejected = true;
+            System.out.println("[DEBUG] 서버가 Smile 요청 본문을 거절 - JSON으로 재전송");
+            return chain.proceed(request);
+        };
+    }
+
+    private void learn(Response response) {
+        if (advertised || rejected) return;
+        MediaType contentType = response.body() != null ? response.body().contentType() : null;
+        if (JsonCodec.isSmile(contentType)) {
+            advertised = true;
+            System.out.println("[DEBUG] 서버가 Smile 본문 지원 - 이후 분석 요청을 Smile로 전송");
+        }
+    }
+}
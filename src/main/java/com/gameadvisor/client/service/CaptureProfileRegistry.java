@@ -0,0 +1,73 @@
+package com.gameadvisor.client.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gameadvisor.client.model.CaptureProfile;
+import com.gameadvisor.client.model.Game;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게임별 캡쳐 프로필 저장소
+ * 1. 서버 게임 목록(/games)에 포함된 프로필을 우선 사용
+ * 2. 없으면 로컬 설정(capture-profiles.json)의 프로필 사용
+ * 게임 이름(Game.name)을 대소문자 구분 없이 키로 사용
+ */
+public class CaptureProfileRegistry {
+
+    private static final String LOCAL_PROFILE_RESOURCE = "/capture-profiles.json";
+
+    private static final Map<String, CaptureProfile> serverProfiles = new ConcurrentHashMap<>();
+    private static final Map<String, CaptureProfile> localProfiles = new ConcurrentHashMap<>();
+
+    static {
+        loadLocalProfiles();
+    }
+
+    /**
+     * 서버에서 받아온 게임 목록의 캡쳐 프로필 등록
+     */
+    public static void registerAll(List<Game> games) {
+        if (games == null) return;
+        for (Game game : games) {
+            if (game.getName() != null && game.getCaptureProfile() != null) {
+                CaptureProfile profile = game.getCaptureProfile();
+                if (profile.getGameName() == null) {
+                    profile.setGameName(game.getName());
+                }
+                serverProfiles.put(key(game.getName()), profile);
+                System.out.println("[DEBUG] 서버 캡쳐 프로필 등록: " + profile);
+            }
+        }
+    }
+
+    /**
+     * 게임 이름으로 캡쳐 프로필 조회 (없으면 null - 전체 영역 캡쳐)
+     */
+    public static CaptureProfile find(String gameName) {
+        if (gameName == null) return null;
+        CaptureProfile profile = serverProfiles.get(key(gameName));
+        return profile != null ? profile : localProfiles.get(key(gameName));
+    }
+
+    private static void loadLocalProfiles() {
+        try (InputStream in = CaptureProfileRegistry.class.getResourceAsStream(LOCAL_PROFILE_RESOURCE)) {
+            if (in == null) return;
+            List<CaptureProfile> profiles = new ObjectMapper().readValue(in, new TypeReference<List<CaptureProfile>>() {});
+            for (CaptureProfile profile : profiles) {
+                if (profile.getGameName() != null) {
+                    localProfiles.put(key(profile.getGameName()), profile);
+                }
+            }
+            System.out.println("[DEBUG] 로컬 캡쳐 프로필 로드: " + localProfiles.size() + "개");
+        } catch (Exception e) {
+            System.err.println("로컬 캡쳐 프로필 로드 실패: " + e.getMessage());
+        }
+    }
+
+    private static String key(String gameName) {
+        return gameName.toLowerCase();
+    }
+}
@@ -0,0 +1,334 @@
+package com.gameadvisor.client.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gameadvisor.client.model.ScreenAnalysisRequest;
+import com.gameadvisor.client.model.ScreenAnalysisResponse;
+import com.gameadvisor.client.network.ApiClient;
+import com.gameadvisor.client.network.CircuitBreaker;
+import com.gameadvisor.client.network.RequestScheduler;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 오프라인/재시도용 캡쳐 스풀 (디스크 보관)
+ * 서버에 연결할 수 없을 때 캡쳐 프레임과 요청 메타데이터를 추가 전용(append-only) 세그먼트 파일에 기록하고,
+ * 연결이 복구되면 기록 순서대로 다시 전송
+ *
+ * - 세그먼트는 메모리 매핑 파일로 기록 (이미지를 힙에 쌓아두지 않음)
+ * - 전체 크기 상한을 넘으면 가장 오래된 세그먼트부터 삭제
+ * - 레코드 형식: [magic 4][status 1][metaLength 4][imageLength 4][meta JSON][이미지 원본 바이트]
+ *   status: 0 대기, 1 전송 완료, 2 폐기(서버가 4xx로 거절했거나 메타데이터를 해석할 수 없음)
+ *   magic은 본문 기록 후 마지막에 써서, 중간에 종료되어도 불완전한 레코드는 무시됨
+ */
+public class CaptureSpool {
+
+    private static final CaptureSpool INSTANCE = new CaptureSpool(
+        Paths.get(System.getProperty("user.home"), ".gameadvisor", "spool"),
+        Long.getLong("gameadvisor.spool.maxBytes", 64L * 1024 * 1024)
+    );
+
+    private static final int MAGIC = 0x47415350; // "GASP"
+    private static final int HEADER_SIZE = 13;
+    private static final byte STATUS_PENDING = 0;
+    private static final byte STATUS_SENT = 1;
+    private static final byte STATUS_DISCARDED = 2;
+    private static final long SEGMENT_SIZE = 8L * 1024 * 1024;
+    private static final String SEGMENT_SUFFIX = ".spool";
+
+    private final Path directory;
+    private final long maxBytes;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    // 현재 기록 중인 세그먼트
+    private Path activeSegment;
+    private MappedByteBuffer activeBuffer;
+
+    private Thread replayThread;
+
+    CaptureSpool(Path directory, long maxBytes) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+    }
+
+    public static CaptureSpool getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * 분석 요청을 스풀에 기록
+     */
+    public synchronized void append(ScreenAnalysisRequest request) throws IOException {
+        // 이미지는 Base64 대신 원본 바이트로 저장하여 크기 절감
+        byte[] image = request.getImageBytes();
+        ScreenAnalysisRequest meta = new ScreenAnalysisRequest((byte[]) null, request.getGameName(), request.getAdditionalContext());
+        meta.setImageFormat(request.getImageFormat());
+        meta.setAnalysisPhase(request.getAnalysisPhase());
+        byte[] metaBytes = mapper.writeValueAsBytes(meta);
+
+        int recordSize = HEADER_SIZE + metaBytes.length + image.length;
+        MappedByteBuffer buffer = bufferFor(recordSize);
+        int start = buffer.position();
+
+        buffer.position(start + 4);
+        buffer.put(STATUS_PENDING);
+        buffer.putInt(metaBytes.length);
+        buffer.putInt(image.length);
+        buffer.put(metaBytes);
+        buffer.put(image);
+        // 본문 기록 후 magic을 써서 레코드 완성
+        buffer.putInt(start, MAGIC);
+        buffer.force();
+
+        System.out.println("[DEBUG] 캡쳐 스풀 기록: " + request.getGameName() + ", " + recordSize + " bytes (" + activeSegment.getFileName() + ")");
+        evictIfNeeded();
+    }
+
+    /**
+     * 전송 대기 중인 레코드 존재 여부
+     */
+    public synchronized boolean hasPending() {
+        try {
+            for (Path segment : listSegments()) {
+                if (countPending(segment) > 0) return true;
+            }
+        } catch (IOException e) {
+            System.err.println("캡쳐 스풀 조회 실패: " + e.getMessage());
+        }
+        return false;
+    }
+
+    /**
+     * 대기 중인 레코드가 있으면 백그라운드에서 기록 순서대로 재전송
+     * 서버 연결이 차단(서킷 브레이커 OPEN/HALF_OPEN)된 동안은 보관만 하고, 복구(CLOSED) 알림을 받은 쪽에서 다시 호출
+     * @param onReplayed 재전송 성공한 응답 콜백 (백그라운드 스레드에서 호출)
+     */
+    public synchronized void scheduleReplay(ApiClient apiClient, Consumer<ScreenAnalysisResponse> onReplayed) {
+        if (replayThread != null && replayThread.isAlive()) return;
+        if (!hasPending()) return;
+        if (apiClient.getCircuitBreaker().getState() != CircuitBreaker.State.CLOSED) {
+            System.out.println("[DEBUG] 캡쳐 스풀: 서버 연결 복구 후 재전송");
+            return;
+        }
+
+        replayThread = new Thread(() -> replay(apiClient, onReplayed), "capture-spool-replay");
+        replayThread.setDaemon(true);
+        replayThread.start();
+    }
+
+    /**
+     * 대기 중인 레코드를 기록 순서대로 전송 (연결 오류/일시적인 서버 오류면 중단하고 남은 레코드는 유지)
+     */
+    public void replay(ApiClient apiClient, Consumer<ScreenAnalysisResponse> onReplayed) {
+        List<Path> segments;
+        try {
+            segments = listSegments();
+        } catch (IOException e) {
+            System.err.println("캡쳐 스풀 조회 실패: " + e.getMessage());
+            return;
+        }
+
+        for (Path segment : segments) {
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+                try {
+                    int offset = 0;
+                    while (offset + HEADER_SIZE <= buffer.limit() && buffer.getInt(offset) == MAGIC) {
+                        int metaLength = buffer.getInt(offset + 5);
+                        int imageLength = buffer.getInt(offset + 9);
+                        if (metaLength < 0 || imageLength < 0
+                                || (long) offset + HEADER_SIZE + metaLength + imageLength > buffer.limit()) {
+                            // 길이가 손상된 레코드: 뒤쪽 레코드 위치를 알 수 없으므로 세그먼트 끝으로 간주
+                            System.err.println("캡쳐 스풀 레코드 길이 손상: " + segment.getFileName() + " @" + offset);
+                            break;
+                        }
+                        if (buffer.get(offset + 4) == STATUS_PENDING) {
+                            ScreenAnalysisResponse response = null;
+                            byte status = STATUS_SENT;
+                            ScreenAnalysisRequest request = null;
+                            try {
+                                request = readRequest(buffer, offset, metaLength, imageLength);
+                            } catch (JsonProcessingException e) {
+                                // 메타데이터를 해석할 수 없는 레코드는 다시 읽어도 같으므로 버림 (재전송이 매번 같은 위치에서 멈추지 않도록)
+                                System.err.println("캡쳐 스풀 레코드 해석 실패 - 폐기: " + e.getOriginalMessage());
+                                status = STATUS_DISCARDED;
+                            }
+                            if (request != null) {
+                                try {
+                                    // 사용자가 기다리는 화면 분석보다 뒤로 미룸
+                                    response = apiClient.analyzeScreen(request, RequestScheduler.Priority.BACKGROUND);
+                                    System.out.println("[DEBUG] 캡쳐 스풀 재전송 완료: " + request.getGameName());
+                                } catch (ApiClient.HttpStatusException e) {
+                                    // 일시적인 서버 오류(5xx 등)는 연결 오류처럼 중단하고 다음 재시도까지 보관
+                                    if (!e.isRejected()) throw e;
+                                    // 서버가 거절한 요청(4xx)은 재시도해도 같으므로 버리고 다음 레코드로 진행
+                                    System.err.println("캡쳐 스풀 레코드 폐기: " + e.getMessage());
+                                    status = STATUS_DISCARDED;
+                                }
+                            }
+                            synchronized (this) {
+                                buffer.put(offset + 4, status);
+                                buffer.force();
+                            }
+                            if (response != null && onReplayed != null) {
+                                onReplayed.accept(response);
+                            }
+                        }
+                        offset += HEADER_SIZE + metaLength + imageLength;
+                    }
+                } finally {
+                    unmap(buffer);
+                }
+            } catch (Exception e) {
+                System.err.println("캡쳐 스풀 재전송 실패: " + e.getMessage());
+                return;
+            }
+            deleteIfDrained(segment);
+        }
+    }
+
+    private ScreenAnalysisRequest readRequest(MappedByteBuffer buffer, int offset, int metaLength, int imageLength) throws IOException {
+        byte[] metaBytes = new byte[metaLength];
+        buffer.get(offset + HEADER_SIZE, metaBytes);
+        ScreenAnalysisRequest request = mapper.readValue(new String(metaBytes, StandardCharsets.UTF_8), ScreenAnalysisRequest.class);
+
+        // 전송 직전에만 이미지를 힙으로 읽어옴
+        byte[] image = new byte[imageLength];
+        buffer.get(offset + HEADER_SIZE + metaLength, image);
+        request.setImageBytes(image);
+        return request;
+    }
+
+    /**
+     * 레코드를 기록할 공간이 있는 세그먼트 버퍼 반환 (부족하면 새 세그먼트 생성)
+     */
+    private MappedByteBuffer bufferFor(int recordSize) throws IOException {
+        if (activeBuffer != null && activeBuffer.remaining() >= recordSize) {
+            return activeBuffer;
+        }
+        if (activeBuffer != null) {
+            unmap(activeBuffer);
+            activeBuffer = null;
+        }
+
+        Files.createDirectories(directory);
+        activeSegment = directory.resolve(String.format("segment-%013d%s", System.currentTimeMillis(), SEGMENT_SUFFIX));
+        long size = Math.max(SEGMENT_SIZE, recordSize + 4L);
+        try (FileChannel channel = FileChannel.open(activeSegment,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            activeBuffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+        return activeBuffer;
+    }
+
+    /**
+     * 전체 크기 상한 초과 시 가장 오래된 세그먼트부터 삭제
+     */
+    private void evictIfNeeded() throws IOException {
+        List<Path> segments = listSegments();
+        long total = 0;
+        for (Path segment : segments) {
+            total += Files.size(segment);
+        }
+        for (Path segment : segments) {
+            if (total <= maxBytes || segment.equals(activeSegment)) break;
+            long size = Files.size(segment);
+            int dropped = countPending(segment);
+            if (deleteSegment(segment)) {
+                total -= size;
+                System.out.println("[DEBUG] 캡쳐 스풀 용량 초과 - 오래된 세그먼트 삭제: " + segment.getFileName() + " (미전송 " + dropped + "건)");
+            }
+        }
+    }
+
+    private synchronized void deleteIfDrained(Path segment) {
+        if (segment.equals(activeSegment)) {
+            // 기록 중인 세그먼트는 모두 전송되었으면 닫고 삭제
+            try {
+                if (countPending(segment) > 0) return;
+            } catch (IOException e) {
+                return;
+            }
+            unmap(activeBuffer);
+            activeBuffer = null;
+            activeSegment = null;
+        }
+        try {
+            if (countPending(segment) == 0) {
+                deleteSegment(segment);
+            }
+        } catch (IOException e) {
+            System.err.println("캡쳐 스풀 세그먼트 정리 실패: " + e.getMessage());
+        }
+    }
+
+    private int countPending(Path segment) throws IOException {
+        int pending = 0;
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            long offset = 0;
+            long size = channel.size();
+            while (offset + HEADER_SIZE <= size) {
+                header.clear();
+                channel.read(header, offset);
+                if (header.getInt(0) != MAGIC) break;
+                if (header.get(4) == STATUS_PENDING) pending++;
+                offset += HEADER_SIZE + header.getInt(5) + header.getInt(9);
+            }
+        }
+        return pending;
+    }
+
+    private List<Path> listSegments() throws IOException {
+        List<Path> segments = new ArrayList<>();
+        if (!Files.isDirectory(directory)) return segments;
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(p -> p.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                 .sorted()
+                 .forEach(segments::add);
+        }
+        return segments;
+    }
+
+    private boolean deleteSegment(Path segment) {
+        try {
+            Files.deleteIfExists(segment);
+            return true;
+        } catch (IOException e) {
+            // Windows에서 매핑이 아직 해제되지 않은 경우 다음 정리 때 다시 시도
+            System.err.println("캡쳐 스풀 세그먼트 삭제 실패: " + segment.getFileName() + " - " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 매핑 해제 (Windows는 매핑된 파일을 삭제할 수 없으므로 GC 전에 명시적으로 해제)
+     */
+    private static void unmap(MappedByteBuffer buffer) {
+        if (buffer == null) return;
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            Object unsafe = field.get(null);
+            Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            invokeCleaner.invoke(unsafe, buffer);
+        } catch (Exception e) {
+            // 해제 실패 시 GC에 맡김
+        }
+    }
+}
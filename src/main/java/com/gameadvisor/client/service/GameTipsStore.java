@@ -0,0 +1,139 @@
+package com.gameadvisor.client.service;
+
+import com.gameadvisor.client.model.Game;
+import com.gameadvisor.client.model.GameTips;
+import com.gameadvisor.client.network.ApiClient;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 게임별 팁 저장소 (Game.id 기준)
+ * 게임이 탐지되면 prefetch로 팁을 미리 준비하며, UI 스레드를 막지 않음
+ * 1. 메모리에 없으면 HTTP 디스크 캐시(/games/{id}/tips)에서 읽음 (재시작 후에도 네트워크 없이 표시, 디스크 읽기는 전용 스레드에서)
+ * 2. 게임 목록의 tipsVersion과 로컬 버전이 같으면 네트워크 요청 없음
+ * 3. 버전이 다르거나 알 수 없으면 BACKGROUND 우선순위로 조건부 요청(ETag) 재검증 후 메모리 갱신
+ *    (버전 정보가 없으면 세션당 한 번만 재검증)
+ */
+public class GameTipsStore {
+
+    private static final GameTipsStore INSTANCE = new GameTipsStore();
+
+    private final ApiClient apiClient = ApiClient.getInstance();
+    private final Map<Long, GameTips> tips = new ConcurrentHashMap<>();
+    // 이번 실행 중 서버와 재검증을 마친 게임 (팁이 없는 게임 포함)
+    private final Set<Long> validated = ConcurrentHashMap.newKeySet();
+    // 진행 중인 재검증 (같은 게임을 동시에 여러 번 요청하지 않도록)
+    private final Map<Long, CompletableFuture<GameTips>> refreshing = new ConcurrentHashMap<>();
+    // 디스크 캐시 읽기 (캐시 저널 열기 포함) 전용 스레드
+    private final ExecutorService diskReader = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "game-tips-disk");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private GameTipsStore() {
+    }
+
+    public static GameTipsStore getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * 게임 팁 준비 (UI 스레드에서 호출해도 디스크/네트워크 I/O로 막히지 않음)
+     * 로컬에 팁이 있으면 바로 완료하고 필요하면 뒤에서 재검증, 없으면 서버 응답으로 완료
+     * 실패해도 예외 없이 null(팁 없음)로 완료
+     */
+    public CompletableFuture<GameTips> prefetch(Game game) {
+        if (game == null || game.getId() == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        long gameId = game.getId();
+        GameTips known = tips.get(gameId);
+        if (known != null || validated.contains(gameId)) {
+            return prefetchKnown(game, known);
+        }
+        return CompletableFuture.supplyAsync(() -> loadCached(game), diskReader)
+            .thenCompose(cached -> prefetchKnown(game, cached));
+    }
+
+    /**
+     * 디스크 캐시에서 팁 로드 (전용 스레드에서 호출, 그 사이 메모리에 들어온 팁이 있으면 그대로 사용)
+     */
+    private GameTips loadCached(Game game) {
+        long gameId = game.getId();
+        GameTips known = tips.get(gameId);
+        if (known != null || validated.contains(gameId)) {
+            return known;
+        }
+        GameTips cached = apiClient.getCachedGameTips(gameId);
+        if (cached == null) {
+            return null;
+        }
+        GameTips previous = tips.putIfAbsent(gameId, cached);
+        if (previous != null) {
+            return previous;
+        }
+        System.out.println("[DEBUG] 디스크 캐시에서 게임 팁 로드: " + game.getName() + " v" + cached.getVersion());
+        return cached;
+    }
+
+    /**
+     * 로컬 팁 확인 후 필요하면 재검증 시작 (UI 스레드와 디스크 읽기 스레드 양쪽에서 호출되므로 동기화)
+     */
+    private synchronized CompletableFuture<GameTips> prefetchKnown(Game game, GameTips known) {
+        long gameId = game.getId();
+        if (known != null && isCurrent(known, game)) {
+            return CompletableFuture.completedFuture(known);
+        }
+        if (known == null && validated.contains(gameId)) {
+            // 서버가 이 게임의 팁을 제공하지 않음
+            return CompletableFuture.completedFuture(null);
+        }
+
+        CompletableFuture<GameTips> refresh = refreshing.get(gameId);
+        if (refresh == null) {
+            refresh = refresh(game);
+            if (!refresh.isDone()) {
+                CompletableFuture<GameTips> started = refresh;
+                refreshing.put(gameId, started);
+                started.whenComplete((result, error) -> refreshing.remove(gameId, started));
+            }
+        }
+        return known != null ? CompletableFuture.completedFuture(known) : refresh;
+    }
+
+    private boolean isCurrent(GameTips known, Game game) {
+        if (game.getTipsVersion() != null) {
+            return game.getTipsVersion().equals(known.getVersion());
+        }
+        return validated.contains(game.getId());
+    }
+
+    private CompletableFuture<GameTips> refresh(Game game) {
+        long gameId = game.getId();
+        return apiClient.getGameTipsAsync(gameId).handle((fetched, error) -> {
+            if (error != null) {
+                // 다음 탐지 때 다시 시도, 기존 팁은 유지
+                System.err.println("게임 팁 갱신 실패: " + error.getMessage());
+                return tips.get(gameId);
+            }
+            validated.add(gameId);
+            if (fetched == null) {
+                tips.remove(gameId);
+                return null;
+            }
+            GameTips previous = tips.put(gameId, fetched);
+            if (previous == null || !Objects.equals(previous.getVersion(), fetched.getVersion())) {
+                System.out.println("[DEBUG] 게임 팁 갱신: " + game.getName() + " v" + fetched.getVersion() +
+                    " (" + fetched.getTips().size() + "개)");
+            }
+            return fetched;
+        });
+    }
+}
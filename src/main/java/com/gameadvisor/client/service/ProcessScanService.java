@@ -14,7 +14,7 @@ import com.gameadvisor.client.model.GameWindowInfo;
 import com.gameadvisor.client.model.Game;
 
 public class ProcessScanService extends ScheduledService<List<GameWindowInfo>> {
-    private final List<Game> knownGames;
+    private volatile List<Game> knownGames;
     private final com.sun.jna.platform.win32.WinDef.HWND overlayHwnd;
 
     public ProcessScanService(List<Game> knownGames, com.sun.jna.platform.win32.WinDef.HWND overlayHwnd) {
@@ -22,6 +22,13 @@ public class ProcessScanService extends ScheduledService<List<GameWindowInfo>> {
         this.overlayHwnd = overlayHwnd;
     }
 
+    /**
+     * 탐지 대상 게임 목록 교체 (캐시된 목록으로 시작한 뒤 서버에서 새 목록을 받은 경우)
+     */
+    public void setKnownGames(List<Game> knownGames) {
+        this.knownGames = knownGames;
+    }
+
     @Override
     protected Task<List<GameWindowInfo>> createTask() {
         return new Task<>() {
@@ -0,0 +1,67 @@
+package com.gameadvisor.client.service;
+
+import com.gameadvisor.client.model.ScreenAnalysisRequest;
+import com.gameadvisor.client.model.ScreenAnalysisResponse;
+
+import java.util.concurrent.CancellationException;
+import java.util.function.Consumer;
+
+/**
+ * 썸네일 우선 2단계(점진적) 화면 분석
+ * quick 단계(썸네일) 결과를 먼저 전달하고, 서버가 원본이 필요 없다고 응답하면(needsFullFrame=false) full 단계를 생략
+ * quick 단계가 실패해도 full 단계는 계속 진행 (취소는 전체 중단)
+ */
+public class ProgressiveAnalysis {
+
+    /**
+     * 분석 요청 한 단계 (요청을 보내고 결과까지 대기)
+     */
+    @FunctionalInterface
+    public interface Step {
+        ScreenAnalysisResponse request(ScreenAnalysisRequest request) throws Exception;
+    }
+
+    private final Step quickStep;
+    private final Step fullStep;
+
+    public ProgressiveAnalysis(Step quickStep, Step fullStep) {
+        this.quickStep = quickStep;
+        this.fullStep = fullStep;
+    }
+
+    /**
+     * @param quickRequest 썸네일 요청 (썸네일을 만들지 못했으면 null - 바로 full 단계)
+     * @param onQuick quick 단계가 성공하면 full 단계 전에 호출 (결과 먼저 표시용)
+     * @return full 단계 결과 (생략했으면 quick 단계 결과)
+     */
+    public ScreenAnalysisResponse analyze(ScreenAnalysisRequest quickRequest, ScreenAnalysisRequest fullRequest,
+                                          Consumer<ScreenAnalysisResponse> onQuick) throws Exception {
+        ScreenAnalysisResponse quickResponse = quickRequest != null ? requestQuick(quickRequest) : null;
+        if (quickResponse != null && quickResponse.isSuccess()) {
+            onQuick.accept(quickResponse);
+            if (Boolean.FALSE.equals(quickResponse.getNeedsFullFrame())) {
+                System.out.println("[DEBUG] 서버가 원본 프레임이 필요 없다고 응답 - 1차 분석 결과로 완료");
+                return quickResponse;
+            }
+        }
+        return fullStep.request(fullRequest);
+    }
+
+    /**
+     * 빠른 1차 분석 요청 (실패 시 null - 상세 분석은 계속 진행)
+     */
+    private ScreenAnalysisResponse requestQuick(ScreenAnalysisRequest quickRequest) {
+        long start = System.currentTimeMillis();
+        try {
+            ScreenAnalysisResponse response = quickStep.request(quickRequest);
+            System.out.println("[DEBUG] 빠른 1차 분석 완료: " + (System.currentTimeMillis() - start) + "ms");
+            return response;
+        } catch (CancellationException e) {
+            // 취소는 상세 분석까지 중단
+            throw e;
+        } catch (Exception e) {
+            System.err.println("[ERROR] 빠른 1차 분석 실패: " + e.getMessage());
+            return null;
+        }
+    }
+}
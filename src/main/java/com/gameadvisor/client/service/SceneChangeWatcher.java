@@ -0,0 +1,149 @@
+package com.gameadvisor.client.service;
+
+import com.gameadvisor.client.util.PixelKernels;
+import com.gameadvisor.client.util.ScreenCaptureUtil;
+import javafx.concurrent.ScheduledService;
+import javafx.concurrent.Task;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.function.Supplier;
+
+/**
+ * 장면 전환 감지 서비스 (자동 분석 모드용)
+ * 낮은 주기로 게임 화면에서 축소에 쓰는 가로줄만 캡쳐해 아주 작은 그레이스케일 프레임으로 축소하고,
+ * 이전 프레임과의 차이 에너지가 크게 튄 뒤 화면이 안정되면 장면 전환으로 판단하여 콜백 호출
+ * (새 라운드, 듀얼 페이즈 변경 등) 연속 호출은 쿨다운으로 제한
+ */
+public class SceneChangeWatcher extends ScheduledService<Double> {
+
+    // 축소 프레임 크기
+    private static final int THUMB_WIDTH = 64;
+    private static final int THUMB_HEIGHT = 36;
+    // 셀당 샘플 수 (한 변 기준)
+    private static final int SAMPLES_PER_CELL = 2;
+
+    // 프레임 차이 에너지 (0.0 ~ 1.0, 평균 밝기 차이 / 255)
+    // 말풍선 등 오버레이 변화만으로는 넘지 않도록 화면 전체 기준으로 높게 설정
+    private static final double TRANSITION_THRESHOLD = 0.12;
+    private static final double SETTLED_THRESHOLD = 0.02;
+    private static final long COOLDOWN_MS = 30000;
+    // CPU 사용량 로그 주기 (틱 수)
+    private static final int STATS_LOG_INTERVAL = 40;
+
+    private final Supplier<Rectangle> captureAreaSupplier;
+    private final Runnable onSceneChanged;
+
+    private byte[] previousFrame;
+    private boolean transitionPending = false;
+    private long lastTriggerTime = 0;
+
+    // CPU 사용량 측정
+    private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+    private long statsStartNanos = System.nanoTime();
+    private long statsCpuNanos = 0;
+    private int statsTicks = 0;
+
+    /**
+     * @param captureAreaSupplier 감시할 화면 영역 (null 반환 시 해당 주기 건너뜀)
+     * @param onSceneChanged 장면 전환 시 JavaFX 스레드에서 호출
+     */
+    public SceneChangeWatcher(Supplier<Rectangle> captureAreaSupplier, Runnable onSceneChanged) {
+        this.captureAreaSupplier = captureAreaSupplier;
+        this.onSceneChanged = onSceneChanged;
+
+        setOnSucceeded(e -> handleEnergy(getValue()));
+        setOnFailed(e -> {
+            if (getException() != null) {
+                System.err.println("장면 전환 감지 실패: " + getException().getMessage());
+            }
+        });
+    }
+
+    @Override
+    protected Task<Double> createTask() {
+        return new Task<>() {
+            @Override
+            protected Double call() {
+                long cpuStart = threadBean.isCurrentThreadCpuTimeSupported() ? threadBean.getCurrentThreadCpuTime() : 0;
+                try {
+                    return measureEnergy();
+                } finally {
+                    if (cpuStart > 0) {
+                        recordCpu(threadBean.getCurrentThreadCpuTime() - cpuStart);
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * 기준 프레임 초기화 (게임 변경, 수동 분석 직후 등)
+     */
+    public synchronized void resetBaseline() {
+        previousFrame = null;
+        transitionPending = false;
+    }
+
+    private Double measureEnergy() {
+        Rectangle area = captureAreaSupplier.get();
+        if (area == null || area.width <= 0 || area.height <= 0) {
+            return -1.0;
+        }
+
+        // 전체 해상도 대신 샘플 줄만 캡쳐 (4K 기준 틱당 약 33MB -> 1MB, 축소 결과는 같음)
+        BufferedImage image = ScreenCaptureUtil.captureRows(area, THUMB_HEIGHT * SAMPLES_PER_CELL);
+        byte[] frame = new byte[THUMB_WIDTH * THUMB_HEIGHT];
+        PixelKernels.downscaleLuma(PixelKernels.pixels(image), image.getWidth(), image.getHeight(),
+            frame, THUMB_WIDTH, THUMB_HEIGHT, SAMPLES_PER_CELL);
+        synchronized (this) {
+            byte[] previous = previousFrame;
+            previousFrame = frame;
+            if (previous == null) {
+                return -1.0;
+            }
+            return PixelKernels.meanAbsDiff(previous, frame);
+        }
+    }
+
+    /**
+     * JavaFX 스레드에서 에너지 값으로 전환 여부 판단
+     * 큰 변화 감지 -> 화면이 안정될 때까지 대기 -> 쿨다운 확인 후 트리거
+     */
+    private void handleEnergy(Double energy) {
+        if (energy == null || energy < 0) return;
+
+        if (energy >= TRANSITION_THRESHOLD) {
+            if (!transitionPending) {
+                System.out.println("[DEBUG] 장면 변화 감지: energy=" + String.format("%.3f", energy));
+            }
+            transitionPending = true;
+            return;
+        }
+
+        if (transitionPending && energy <= SETTLED_THRESHOLD) {
+            transitionPending = false;
+            long now = System.currentTimeMillis();
+            if (now - lastTriggerTime < COOLDOWN_MS) {
+                System.out.println("[DEBUG] 장면 전환 무시 (쿨다운 중)");
+                return;
+            }
+            lastTriggerTime = now;
+            System.out.println("[DEBUG] 장면 전환 완료 - 자동 분석 트리거");
+            onSceneChanged.run();
+        }
+    }
+
+    private synchronized void recordCpu(long cpuNanos) {
+        statsCpuNanos += cpuNanos;
+        if (++statsTicks >= STATS_LOG_INTERVAL) {
+            long wallNanos = System.nanoTime() - statsStartNanos;
+            System.out.println(String.format("[DEBUG] 장면 감지 CPU 사용률: %.3f%% (틱당 평균 %.1fms)",
+                100.0 * statsCpuNanos / wallNanos, statsCpuNanos / 1e6 / statsTicks));
+            statsStartNanos = System.nanoTime();
+            statsCpuNanos = 0;
+            statsTicks = 0;
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package com.gameadvisor.client.ui;
 
 import com.gameadvisor.client.model.Game;
+import com.gameadvisor.client.model.GameTips;
+import com.gameadvisor.client.model.PushMessage;
 import com.gameadvisor.client.ui.components.character.CharacterOverlay;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import javafx.animation.PauseTransition;
 import javafx.application.Application;
 import javafx.concurrent.ScheduledService;
 import javafx.concurrent.Task;
@@ -30,9 +33,18 @@ import java.io.InputStreamReader;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
+import com.gameadvisor.client.network.AnalysisResultCache;
 import com.gameadvisor.client.network.ApiClient;
+import com.gameadvisor.client.network.CircuitBreaker;
+import com.gameadvisor.client.network.ConnectionWarmer;
+import com.gameadvisor.client.network.NetworkTimings;
+import com.gameadvisor.client.network.PushChannel;
+import com.gameadvisor.client.network.SharedHttpClient;
+import com.gameadvisor.client.service.CaptureProfileRegistry;
+import com.gameadvisor.client.service.GameTipsStore;
 import com.gameadvisor.client.service.ProcessScanService;
 import com.gameadvisor.client.model.GameWindowInfo;
 import com.sun.jna.platform.win32.WinDef.RECT;
@@ -45,38 +57,85 @@ public class GameAdvisorClient extends Application {
     private List<Game> knownGames = new ArrayList<>();
     private CharacterOverlay characterOverlay;
     private Stage overlayStage;
-    private volatile boolean keepTryingServer = false;
-    private Thread serverRetryThread;
+    private ProcessScanService gameScanService;
 
     @Override
     public void start(Stage primaryStage) {
         // 초기 상태창 (작은 창)
         createInitialStatusWindow(primaryStage);
-        
-        // 게임 목록 가져오기 및 프로세스 감지 시작
-        new Thread(() -> {
-            ApiClient apiClient = new ApiClient();
-            try {
-                knownGames = apiClient.getGames();
+
+        // 서버 연결 상태: 차단(OPEN)되면 경고를 띄울 오버레이 준비, 복구(CLOSED)되면 게임 탐지 시작
+        // 재연결 시도는 서킷 브레이커가 지터 백오프로 수행
+        ApiClient.getInstance().getCircuitBreaker().addListener(state -> {
+            if (state == CircuitBreaker.State.OPEN) {
                 javafx.application.Platform.runLater(() -> {
-                    if (knownGames.isEmpty()) {
-                        updateStatusWindow(primaryStage, "서버에서 게임 목록을 불러오지 못했습니다.\n서버가 실행 중인지 확인하세요.");
-                        // 서버 연결 재시도 루프 시작
-                        startServerRetryLoop(primaryStage);
-                    } else {
-                        updateStatusWindow(primaryStage, "게임 탐지 대기 중...\n게임을 실행해주세요!");
-                        startGameDetection(primaryStage);
+                    if (characterOverlay == null) {
+                        createGameOverlay();
                     }
                 });
-            } catch (Exception e) {
-                e.printStackTrace();
-                javafx.application.Platform.runLater(() -> {
-                    updateStatusWindow(primaryStage, "서버 연결 오류\n" + e.getMessage());
-                    // 서버 연결 재시도 루프 시작
-                    startServerRetryLoop(primaryStage);
+            } else if (state == CircuitBreaker.State.CLOSED) {
+                javafx.application.Platform.runLater(() -> onServerReconnected(primaryStage));
+            }
+        });
+        
+        // 서버 푸시 채널: 게임 목록이 바뀌었다는 알림을 받으면 다시 조회 (조언 메시지는 캐릭터 오버레이가 처리)
+        PushChannel.getInstance().addListener(message -> {
+            if (message.is(PushMessage.CATALOG)) {
+                System.out.println("[DEBUG] 서버 알림: 게임 목록 변경 - 다시 조회");
+                ApiClient.getInstance().getGamesAsync().thenAccept(games -> {
+                    if (!games.isEmpty()) {
+                        javafx.application.Platform.runLater(() -> applyGames(games));
+                    }
                 });
             }
-        }).start();
+        });
+        PushChannel.getInstance().start();
+        
+        // 디스크 캐시에 게임 목록이 있으면 바로 게임 탐지 시작 (서버 재검증은 아래에서 백그라운드로)
+        List<Game> cachedGames = ApiClient.getInstance().getCachedGames();
+        boolean startedFromCache = !cachedGames.isEmpty();
+        if (startedFromCache) {
+            knownGames = cachedGames;
+            CaptureProfileRegistry.registerAll(knownGames);
+            updateStatusWindow(primaryStage, "게임 탐지 대기 중...\n게임을 실행해주세요!");
+            startGameDetection(primaryStage);
+        }
+
+        // 게임 목록 가져오기 및 프로세스 감지 시작 (비동기 요청, 대기용 스레드 없음)
+        // 캐시가 있으면 조건부 요청(If-None-Match/If-Modified-Since)이 되어 변경 없을 때 304만 받음
+        ApiClient.getInstance().getGamesAsync().whenComplete((games, error) -> {
+            if (error != null) {
+                error.printStackTrace();
+                Throwable cause = error.getCause() != null ? error.getCause() : error;
+                if (startedFromCache) {
+                    // 캐시된 목록으로 탐지는 계속하고 연결 상태만 확인
+                    System.err.println("게임 목록 재검증 실패, 캐시된 목록 사용: " + cause.getMessage());
+                } else {
+                    javafx.application.Platform.runLater(() ->
+                        updateStatusWindow(primaryStage, "서버 연결 오류\n" + cause.getMessage()));
+                }
+                // 즉시 연결 확인, 실패하면 브레이커가 OPEN으로 전환하고 백오프 후 재시도
+                ApiClient.getInstance().getCircuitBreaker().probeNow();
+                return;
+            }
+            if (startedFromCache) {
+                if (!games.isEmpty()) {
+                    // 재검증된 목록으로 탐지 대상 교체 (304면 캐시와 같은 내용)
+                    javafx.application.Platform.runLater(() -> applyGames(games));
+                }
+                return;
+            }
+            knownGames = games;
+            CaptureProfileRegistry.registerAll(knownGames);
+            javafx.application.Platform.runLater(() -> {
+                if (knownGames.isEmpty()) {
+                    updateStatusWindow(primaryStage, "서버에서 게임 목록을 불러오지 못했습니다.\n서버가 실행 중인지 확인하세요.");
+                } else {
+                    updateStatusWindow(primaryStage, "게임 탐지 대기 중...\n게임을 실행해주세요!");
+                    startGameDetection(primaryStage);
+                }
+            });
+        });
 
         primaryStage.show();
     }
@@ -159,8 +218,13 @@ public class GameAdvisorClient extends Application {
     }
     
     private void startGameDetection(Stage statusStage) {
+        if (gameScanService != null) {
+            // 캐시된 목록으로 이미 탐지 중
+            return;
+        }
         com.sun.jna.platform.win32.WinDef.HWND statusHwnd = com.gameadvisor.client.util.WindowUtils.getHWNDFromStage(statusStage);
         ProcessScanService service = new ProcessScanService(knownGames, statusHwnd);
+        gameScanService = service;
         service.setPeriod(Duration.seconds(1));
 
         service.setOnRunning(e -> {
@@ -171,6 +235,7 @@ public class GameAdvisorClient extends Application {
             List<GameWindowInfo> infos = service.getValue();
             if (infos == null || infos.isEmpty() || infos.get(0).getRect() == null) {
                 // 게임 탐지 실패 시
+                ConnectionWarmer.getInstance().stop();
                 if (overlayStage != null && overlayStage.isShowing()) {
                     overlayStage.hide();
                     statusStage.show(); // 상태창 다시 표시
@@ -179,7 +244,8 @@ public class GameAdvisorClient extends Application {
                 return;
             }
 
-            // 게임 탐지 성공 시
+            // 게임 탐지 성공 시: 첫 분석 요청이 연결 수립을 기다리지 않도록 서버 연결 예열
+            ConnectionWarmer.getInstance().start();
             GameWindowInfo info = infos.get(0);
             RECT rect = info.getRect();
             
@@ -203,20 +269,19 @@ public class GameAdvisorClient extends Application {
             overlayStage.show();
             
             // 캐릭터 활성화
+            boolean firstDetection = !characterOverlay.isCharacterActive();
             characterOverlay.activateCharacter(info);
             
             System.out.println("[DEBUG] 탐지된 게임: " + info);
             
-            // 게임별 특별 조언 제공 (첫 감지 시에만)
-            if (!characterOverlay.isCharacterActive()) {
-                new Thread(() -> {
-                    try {
-                        Thread.sleep(3000); // 3초 후 게임별 조언
-                        characterOverlay.provideGameSpecificAdvice(info.getGameName());
-                    } catch (InterruptedException ex) {
-                        Thread.currentThread().interrupt();
-                    }
-                }).start();
+            // 게임별 특별 조언 제공 (첫 감지 시에만, 환영 메시지 3초 후 - 팁이 아직 없으면 도착하는 대로)
+            if (firstDetection) {
+                // 게임별 팁 미리 받기 (로컬에 최신 버전이 있으면 요청 없음)
+                CompletableFuture<GameTips> tips = GameTipsStore.getInstance().prefetch(findGame(info.getGameName()));
+                PauseTransition delay = new PauseTransition(Duration.seconds(3));
+                delay.setOnFinished(ev -> tips.thenAccept(gameTips ->
+                    javafx.application.Platform.runLater(() -> characterOverlay.provideGameSpecificAdvice(gameTips))));
+                delay.play();
             }
         });
         
@@ -245,50 +310,50 @@ public class GameAdvisorClient extends Application {
         });
     }
 
-    private void startServerRetryLoop(Stage primaryStage) {
-        if (serverRetryThread != null && serverRetryThread.isAlive()) return;
-        keepTryingServer = true;
-        serverRetryThread = new Thread(() -> {
-            ApiClient apiClient = new ApiClient();
-            while (keepTryingServer) {
-                boolean connected = apiClient.ping();
-                if (connected) {
-                    javafx.application.Platform.runLater(() -> {
-                        if (characterOverlay != null) {
-                            characterOverlay.hideServerDisconnected();
-                        }
-                        // 서버 연결 성공 시 게임 탐지 시작
-                        updateStatusWindow(primaryStage, "게임 탐지 대기 중...\n게임을 실행해주세요!");
-                        startGameDetection(primaryStage);
-                    });
-                    keepTryingServer = false;
-                    break;
-                } else {
-                    javafx.application.Platform.runLater(() -> {
-                        if (characterOverlay == null) {
-                            createGameOverlay();
-                        }
-                        characterOverlay.showServerDisconnected(() -> {
-                            // 새로고침 버튼 클릭 시 즉시 재시도
-                            new Thread(() -> {
-                                boolean reconnected = apiClient.ping();
-                                if (reconnected) {
-                                    javafx.application.Platform.runLater(() -> {
-                                        characterOverlay.hideServerDisconnected();
-                                        updateStatusWindow(primaryStage, "게임 탐지 대기 중...\n게임을 실행해주세요!");
-                                        startGameDetection(primaryStage);
-                                    });
-                                    keepTryingServer = false;
-                                }
-                            }).start();
-                        });
-                    });
-                }
-                try { Thread.sleep(3000); } catch (InterruptedException ignored) {}
+    /**
+     * 서버 연결 복구 시 게임 탐지 시작 (시작 시 목록을 받지 못했으면 다시 요청)
+     */
+    private void onServerReconnected(Stage primaryStage) {
+        if (knownGames.isEmpty()) {
+            ApiClient.getInstance().getGamesAsync().thenAccept(games ->
+                javafx.application.Platform.runLater(() -> applyGames(games)));
+        }
+        updateStatusWindow(primaryStage, "게임 탐지 대기 중...\n게임을 실행해주세요!");
+        startGameDetection(primaryStage);
+    }
+
+    /**
+     * 탐지된 게임 이름(Game.name)으로 게임 정보 조회 (없으면 null)
+     */
+    private Game findGame(String gameName) {
+        for (Game game : knownGames) {
+            if (game.getName() != null && game.getName().equalsIgnoreCase(gameName)) {
+                return game;
             }
-        });
-        serverRetryThread.setDaemon(true);
-        serverRetryThread.start();
+        }
+        return null;
+    }
+
+    /**
+     * 새로 받은 게임 목록으로 캡쳐 프로필과 탐지 대상 교체
+     */
+    private void applyGames(List<Game> games) {
+        knownGames = games;
+        CaptureProfileRegistry.registerAll(knownGames);
+        if (gameScanService != null) {
+            gameScanService.setKnownGames(knownGames);
+        }
+    }
+
+    @Override
+    public void stop() {
+        // 분석 결과 캐시 저장 (gameadvisor.cache.persist=true일 때)
+        AnalysisResultCache.getInstance().save();
+        PushChannel.getInstance().stop();
+        // 세션 동안의 엔드포인트별 네트워크 구간 시간
+        System.out.println("[DEBUG] 네트워크 구간 통계:\n" + NetworkTimings.getInstance().stats());
+        // 공유 HTTP 클라이언트의 유휴 연결/디스패처 스레드 정리
+        SharedHttpClient.shutdown();
     }
 
     public static void main(String[] args) {
@@ -1,20 +1,43 @@
 package com.gameadvisor.client.ui.components.character;
 
+import com.gameadvisor.client.model.CaptureProfile;
+import com.gameadvisor.client.model.CaptureQuality;
+import com.gameadvisor.client.model.GameTips;
+import com.gameadvisor.client.model.PushMessage;
 import com.gameadvisor.client.model.GameWindowInfo;
 import com.gameadvisor.client.model.ScreenAnalysisRequest;
 import com.gameadvisor.client.model.ScreenAnalysisResponse;
+import com.gameadvisor.client.model.ScreenSequenceRequest;
 import com.gameadvisor.client.network.ApiClient;
+import com.gameadvisor.client.network.CaptureQualityController;
+import com.gameadvisor.client.network.CircuitBreaker;
+import com.gameadvisor.client.network.PushChannel;
+import com.gameadvisor.client.service.CaptureProfileRegistry;
+import com.gameadvisor.client.service.CaptureSpool;
+import com.gameadvisor.client.service.ProgressiveAnalysis;
+import com.gameadvisor.client.service.SceneChangeWatcher;
+import com.gameadvisor.client.util.FrameSequenceCodec;
+import com.gameadvisor.client.util.PixelKernels;
 import com.gameadvisor.client.util.ScreenCaptureUtil;
 import com.sun.jna.platform.win32.WinDef.RECT;
 import javafx.application.Platform;
 import javafx.concurrent.Task;
 import javafx.scene.control.Button;
+import javafx.scene.input.MouseButton;
 import javafx.scene.layout.Pane;
 import javafx.animation.Timeline;
 import javafx.animation.KeyFrame;
 import javafx.util.Duration;
 import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import com.gameadvisor.client.util.WindowUtils;
 import com.sun.jna.platform.win32.WinDef.HWND;
 
@@ -68,13 +91,48 @@ public class CharacterOverlay {
     
     // 서버 연결 상태 표시용
     private boolean serverDisconnected = false;
+    // 서킷 브레이커 상태 변경 알림 (종료 시 해제)
+    private final java.util.function.Consumer<CircuitBreaker.State> serverStateListener = this::onServerStateChanged;
+    // 서버 푸시 조언 알림 (종료 시 해제)
+    private final java.util.function.Consumer<PushMessage> pushListener = this::onPushMessage;
+    
+    // 자동 분석 모드 (장면 전환 감지 시 자동 분석), -Dgameadvisor.analysis.auto=true 또는 분석 버튼 우클릭으로 전환
+    private boolean autoAnalysisEnabled = Boolean.getBoolean("gameadvisor.analysis.auto");
+    private SceneChangeWatcher sceneChangeWatcher;
+    
+    // 2단계 분석 모드 (썸네일 빠른 분석 -> 원본 상세 분석), -Dgameadvisor.analysis.progressive=true 로 활성화
+    private static final boolean PROGRESSIVE_ANALYSIS = Boolean.getBoolean("gameadvisor.analysis.progressive");
+    
+    // 스트리밍 분석 모드 (응답을 받는 대로 말풍선에 이어 표시), -Dgameadvisor.analysis.streaming=true 로 활성화
+    private static final boolean STREAMING_ANALYSIS = Boolean.getBoolean("gameadvisor.analysis.streaming");
+    // 서버가 스트리밍을 지원하지 않으면 이후 요청은 일반 분석으로 전송
+    private static volatile boolean streamingSupported = true;
+    
+    // 연속 화면 분석 (분석 버튼 휠 클릭) - 프레임 수, 캡쳐 간격, 프레임 최대 너비
+    private static final int SEQUENCE_FRAMES = Integer.getInteger("gameadvisor.sequence.frames", 6);
+    private static final long SEQUENCE_INTERVAL_MS = Long.getLong("gameadvisor.sequence.intervalMs", 500L);
+    private static final int SEQUENCE_MAX_WIDTH = 640;
+    
+    // 분석 요청 전체 제한 시간 (초과 시 HTTP 호출 중단)
+    private static final long ANALYSIS_TIMEOUT_MS = 90000;
+    private static final long QUICK_ANALYSIS_TIMEOUT_MS = 15000;
+    // 진행 중인 분석 요청 (캐릭터 비활성화/종료 시 취소)
+    private volatile CompletableFuture<ScreenAnalysisResponse> pendingAnalysis;
     
     public CharacterOverlay(Pane overlayPane) {
         this.overlayPane = overlayPane;
-        this.apiClient = new ApiClient();
+        this.apiClient = ApiClient.getInstance();
         initializeComponents();
         setupIdleActivity();
         setupClickDetection();
+        setupSceneChangeWatcher();
+        // 서버 연결 상태 변화에 따라 경고 표시/스풀 재전송
+        apiClient.getCircuitBreaker().addListener(serverStateListener);
+        onServerStateChanged(apiClient.getCircuitBreaker().getState());
+        // 서버가 먼저 보내는 조언 표시
+        PushChannel.getInstance().addListener(pushListener);
+        // 이전 실행에서 전송하지 못한 캡쳐가 있으면 재전송 예약
+        replaySpooledCaptures();
     }
     
     /**
@@ -186,14 +244,83 @@ public class CharacterOverlay {
             }
         });
         
+        // 우클릭 - 자동 분석 모드 전환, 휠 클릭 - 연속 화면 분석
+        screenAnalysisButton.setOnMouseClicked(e -> {
+            if (e.getButton() == MouseButton.SECONDARY) {
+                setAutoAnalysisEnabled(!autoAnalysisEnabled);
+                makeCharacterSpeak(autoAnalysisEnabled
+                    ? "🔄 자동 분석 모드 ON\n장면이 바뀌면 알아서 분석해 드릴게요!"
+                    : "⏸️ 자동 분석 모드 OFF", SpeechBubble.BubbleType.NORMAL);
+            } else if (e.getButton() == MouseButton.MIDDLE) {
+                performScreenAnalysis(true);
+            }
+        });
+        
         // 버튼을 마우스 투명 해제
         screenAnalysisButton.setMouseTransparent(false);
     }
     
+    /**
+     * 장면 전환 감지 서비스 설정 (자동 분석 모드)
+     */
+    private void setupSceneChangeWatcher() {
+        sceneChangeWatcher = new SceneChangeWatcher(
+            () -> {
+                GameWindowInfo info = currentGameInfo;
+                if (info == null || info.getRect() == null) return null;
+                RECT rect = info.getRect();
+                // 최소화 상태면 건너뜀
+                if (rect.left <= -32000 && rect.top <= -32000) return null;
+                return new Rectangle(rect.left, rect.top, rect.right - rect.left, rect.bottom - rect.top);
+            },
+            () -> {
+                if (autoAnalysisEnabled && isCharacterActive && !isAnalyzing) {
+                    performScreenAnalysis();
+                }
+            }
+        );
+        sceneChangeWatcher.setPeriod(Duration.seconds(1.5));
+    }
+    
+    /**
+     * 자동 분석 모드 설정
+     */
+    public void setAutoAnalysisEnabled(boolean enabled) {
+        autoAnalysisEnabled = enabled;
+        System.out.println("[DEBUG] 자동 분석 모드: " + (enabled ? "ON" : "OFF"));
+        updateSceneChangeWatcher();
+    }
+    
+    public boolean isAutoAnalysisEnabled() {
+        return autoAnalysisEnabled;
+    }
+    
+    /**
+     * 자동 분석 모드/캐릭터 활성 상태에 맞춰 장면 감지 서비스 시작/중지
+     */
+    private void updateSceneChangeWatcher() {
+        if (sceneChangeWatcher == null) return;
+        boolean shouldRun = autoAnalysisEnabled && isCharacterActive;
+        if (shouldRun && !sceneChangeWatcher.isRunning()) {
+            sceneChangeWatcher.resetBaseline();
+            sceneChangeWatcher.restart();
+        } else if (!shouldRun) {
+            sceneChangeWatcher.cancel();
+        }
+    }
+    
     /**
      * 공략 분석 수행
      */
     private void performScreenAnalysis() {
+        performScreenAnalysis(false);
+    }
+    
+    /**
+     * 공략 분석 수행
+     * @param sequence true면 일정 간격의 연속 프레임으로 흐름 분석
+     */
+    private void performScreenAnalysis(boolean sequence) {
         if (currentGameInfo == null) {
             makeCharacterSpeak("게임이 감지되지 않았습니다.", SpeechBubble.BubbleType.WARNING);
             return;
@@ -211,7 +338,7 @@ public class CharacterOverlay {
         
         // 첫 번째 단계 메시지 표시
         System.out.println("[DEBUG] 화면 분석 시작 - 캡쳐 메시지 표시");
-        makeCharacterSpeak("🔍 화면 캡쳐중...", SpeechBubble.BubbleType.THINKING);
+        makeCharacterSpeak(sequence ? "🎞️ 연속 화면 캡쳐중..." : "🔍 화면 캡쳐중...", SpeechBubble.BubbleType.THINKING);
         character.setState(AdvisorCharacter.AnimationState.THINKING);
         
         // 단계별 진행을 위한 Timeline 사용
@@ -220,14 +347,19 @@ public class CharacterOverlay {
         // 1단계: 화면 캡쳐
         KeyFrame captureStep = new KeyFrame(Duration.millis(500), e -> {
             System.out.println("[DEBUG] 화면 캡쳐 단계 시작");
-            performActualCapture();
+            performActualCapture(sequence);
         });
         
         analysisProgress.getKeyFrames().add(captureStep);
         analysisProgress.play();
     }
     
-    private void performActualCapture() {
+    private void performActualCapture(boolean sequence) {
+        // 서버 연결 실패로 캡쳐를 스풀에 보관했는지 여부
+        AtomicBoolean spooled = new AtomicBoolean(false);
+        // 스트리밍으로 결과를 이미 말풍선에 표시했는지 여부
+        AtomicBoolean streamed = new AtomicBoolean(false);
+        
         // 백그라운드에서 공략 분석 수행
         Task<ScreenAnalysisResponse> strategyTask = new Task<ScreenAnalysisResponse>() {
             @Override
@@ -264,10 +396,25 @@ public class CharacterOverlay {
                         height
                     );
                     
-                    // 화면 캡쳐 실행
-                    String capturedImage = ScreenCaptureUtil.captureGameWindow(captureRect);
+                    // 화면 캡쳐 실행 (게임별 캡쳐 프로필이 있으면 관심 영역만 캡쳐)
+                    // 최근 전송 속도/서버 응답 시간에 맞춰 해상도와 코덱 결정
+                    CaptureProfile captureProfile = CaptureProfileRegistry.find(currentGameInfo.getGameName());
+                    if (sequence) {
+                        return requestSequenceAnalysis(captureRect, captureProfile);
+                    }
+                    CaptureQualityController qualityController = CaptureQualityController.getInstance();
+                    CaptureQuality captureQuality = qualityController.nextQuality();
+                    BufferedImage capturedFrame = ScreenCaptureUtil.captureGameWindowImage(captureRect, captureProfile);
+                    // 같은 화면에 대한 중복 요청을 묶기 위한 지문
+                    long frameHash = PixelKernels.differenceHash(
+                        PixelKernels.pixels(capturedFrame), capturedFrame.getWidth(), capturedFrame.getHeight());
+                    byte[] capturedImage = ScreenCaptureUtil.encodeCapture(capturedFrame, captureProfile, captureQuality);
+                    qualityController.recordEncoded(captureQuality, capturedImage.length);
                     System.out.println("[DEBUG] 화면 캡쳐 완료");
                     
+                    // 빠른 1차 분석 결과가 표시되면 진행 메시지로 덮어쓰지 않도록 표시
+                    AtomicBoolean coarseAnswerShown = new AtomicBoolean(false);
+                    
                     // 캡쳐 완료 메시지 표시
                     Platform.runLater(() -> {
                         System.out.println("[DEBUG] 캡쳐 완료 메시지 표시");
@@ -276,6 +423,7 @@ public class CharacterOverlay {
                         // AI 분석 단계로 진행하기 위한 Timeline
                         Timeline aiAnalysisStep = new Timeline(
                             new KeyFrame(Duration.millis(800), event -> {
+                                if (coarseAnswerShown.get()) return;
                                 System.out.println("[DEBUG] AI 분석 단계 메시지 표시");
                                 makeCharacterSpeak("⚡ 서버와 통신중...\n잠시만 기다려주세요!", SpeechBubble.BubbleType.THINKING);
                             })
@@ -299,15 +447,47 @@ public class CharacterOverlay {
                         currentGameInfo.getGameName(),
                         strategyPrompt
                     );
+                    request.setImageFormat(captureQuality.getFormat());
+                    request.setAnalysisPhase(ScreenAnalysisRequest.PHASE_FULL);
+                    request.setFrameHash(frameHash);
                     
                     System.out.println("[DEBUG] API 호출 시작");
                     
-                    // API 호출
-                    ScreenAnalysisResponse response = apiClient.analyzeScreen(request);
+                    // API 호출 (연결 실패 시 캡쳐를 디스크 스풀에 보관하고 연결 복구 후 재전송)
+                    // 2단계 분석 모드면 썸네일로 빠른 1차 분석 결과를 먼저 표시
+                    ScreenAnalysisResponse response;
+                    try {
+                        if (PROGRESSIVE_ANALYSIS) {
+                            ProgressiveAnalysis progressive = new ProgressiveAnalysis(
+                                quick -> awaitAnalysis(apiClient.analyzeScreenAsync(quick, QUICK_ANALYSIS_TIMEOUT_MS)),
+                                full -> requestFullAnalysis(full, streamed));
+                            response = progressive.analyze(createQuickRequest(capturedFrame, frameHash, captureProfile), request,
+                                quickResponse -> {
+                                    coarseAnswerShown.set(true);
+                                    Platform.runLater(() -> {
+                                        character.setState(AdvisorCharacter.AnimationState.TALKING);
+                                        makeCharacterSpeak((quickResponse.isCached() ? "💾 빠른 분석 (저장된 결과)\n\n" : "⚡ 빠른 분석\n\n") +
+                                            quickResponse.getAnalysis() +
+                                            "\n\n🔍 상세 공략을 분석하고 있어요...", SpeechBubble.BubbleType.STRATEGY);
+                                    });
+                                });
+                        } else {
+                            response = requestFullAnalysis(request, streamed);
+                        }
+                    } catch (IOException e) {
+                        System.err.println("서버 연결 실패 - 캡쳐를 스풀에 보관: " + e.getMessage());
+                        CaptureSpool.getInstance().append(request);
+                        spooled.set(true);
+                        replaySpooledCaptures();
+                        return null;
+                    }
                     System.out.println("[DEBUG] API 호출 완료: " + (response != null ? "성공" : "실패"));
                     
                     return response;
                     
+                } catch (CancellationException e) {
+                    System.out.println("[DEBUG] 분석 요청 취소됨");
+                    throw e;
                 } catch (Exception e) {
                     System.err.println("[ERROR] 화면 분석 중 오류 발생: " + e.getMessage());
                     e.printStackTrace();
@@ -328,10 +508,18 @@ public class CharacterOverlay {
                 isAnalyzing = false;
                 updateScreenAnalysisButtonState();
                 
-                if (response != null && response.isSuccess()) {
+                if (spooled.get()) {
+                    character.setState(AdvisorCharacter.AnimationState.IDLE);
+                    makeCharacterSpeak("📦 서버에 연결할 수 없어 화면을 저장해 두었어요.\n연결되면 자동으로 분석해 드릴게요!", SpeechBubble.BubbleType.WARNING);
+                } else if (response != null && response.isSuccess()) {
                     System.out.println("[DEBUG] 분석 결과 표시");
                     character.setState(AdvisorCharacter.AnimationState.TALKING);
-                    makeCharacterSpeak("🎉 분석 완료!\n\n" + response.getAnalysis(), SpeechBubble.BubbleType.STRATEGY);
+                    // 스트리밍으로 이미 표시한 결과는 다시 그리지 않음
+                    if (!streamed.get()) {
+                        // 같은 화면의 이전 결과를 바로 보여준 경우 표시
+                        String title = response.isCached() ? "💾 분석 완료! (같은 화면의 저장된 결과)" : "🎉 분석 완료!";
+                        makeCharacterSpeak(title + "\n\n" + response.getAnalysis(), SpeechBubble.BubbleType.STRATEGY);
+                    }
                 } else {
                     System.out.println("[DEBUG] 분석 실패 결과 표시");
                     character.setState(AdvisorCharacter.AnimationState.IDLE);
@@ -353,6 +541,10 @@ public class CharacterOverlay {
                 
                 character.setState(AdvisorCharacter.AnimationState.IDLE);
                 Throwable exception = strategyTask.getException();
+                if (exception instanceof CancellationException) {
+                    // 캐릭터 비활성화 등으로 취소된 요청은 알리지 않음
+                    return;
+                }
                 String errorMessage = exception != null ? exception.getMessage() : "알 수 없는 오류";
                 makeCharacterSpeak("❌ 공략 분석 중 오류가 발생했습니다:\n" + errorMessage, SpeechBubble.BubbleType.WARNING);
                 System.err.println("공략 분석 실패: " + errorMessage);
@@ -371,6 +563,111 @@ public class CharacterOverlay {
         strategyThread.start();
     }
     
+    /**
+     * 상세 분석 요청 (스트리밍 모드면 도착하는 텍스트를 말풍선에 바로 이어 표시)
+     * @param streamed 첫 조각을 표시하면 true로 설정
+     */
+    private ScreenAnalysisResponse requestFullAnalysis(ScreenAnalysisRequest request, AtomicBoolean streamed) throws Exception {
+        if (STREAMING_ANALYSIS && streamingSupported) {
+            try {
+                return awaitAnalysis(apiClient.analyzeScreenStreamAsync(request, delta -> {
+                    if (streamed.compareAndSet(false, true)) {
+                        makeCharacterSpeak("🎉 분석 결과\n\n" + delta, SpeechBubble.BubbleType.STRATEGY);
+                    } else {
+                        Platform.runLater(() -> speechBubble.appendText(delta));
+                    }
+                }, ANALYSIS_TIMEOUT_MS));
+            } catch (ApiClient.StreamingUnsupportedException e) {
+                System.out.println("[DEBUG] " + e.getMessage() + " - 일반 분석으로 전환");
+                streamingSupported = false;
+            }
+        }
+        return awaitAnalysis(apiClient.analyzeScreenAsync(request, ANALYSIS_TIMEOUT_MS));
+    }
+    
+    /**
+     * 비동기 분석 요청을 진행 중인 요청으로 등록하고 완료까지 대기
+     * 취소 시 CancellationException, 실패 시 원래 예외(IOException 등)를 그대로 던짐
+     */
+    private ScreenAnalysisResponse awaitAnalysis(CompletableFuture<ScreenAnalysisResponse> future) throws Exception {
+        pendingAnalysis = future;
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof TimeoutException) {
+                throw new Exception("서버 응답 시간이 초과되었습니다.", cause);
+            }
+            throw cause instanceof Exception ? (Exception) cause : e;
+        } finally {
+            if (pendingAnalysis == future) {
+                pendingAnalysis = null;
+            }
+        }
+    }
+    
+    /**
+     * 진행 중인 분석 요청 취소 (업로드/서버 대기 중인 HTTP 호출도 중단)
+     */
+    private void cancelPendingAnalysis() {
+        CompletableFuture<ScreenAnalysisResponse> future = pendingAnalysis;
+        if (future != null && future.cancel(true)) {
+            System.out.println("[DEBUG] 진행 중인 분석 요청 취소");
+        }
+    }
+    
+    /**
+     * 연속 프레임을 캡쳐하여 한 번에 흐름 분석 요청
+     */
+    private ScreenAnalysisResponse requestSequenceAnalysis(Rectangle captureRect, CaptureProfile captureProfile) throws Exception {
+        List<BufferedImage> frames = ScreenCaptureUtil.captureGameWindowSequence(
+            captureRect, captureProfile, SEQUENCE_FRAMES, SEQUENCE_INTERVAL_MS, SEQUENCE_MAX_WIDTH);
+        
+        String sequencePrompt = String.format(
+            "%s 게임 화면을 %dms 간격으로 연속 캡쳐한 %d장의 프레임이야. " +
+            "프레임 사이에 어떤 변화가 일어나고 있는지(적 이동, 연계 콤보, 자원 변화 등) 흐름을 분석하고 " +
+            "지금 해야 할 행동을 친근한 한국어와 이모지로 알려줘!",
+            currentGameInfo.getGameName(), SEQUENCE_INTERVAL_MS, frames.size()
+        );
+        ScreenSequenceRequest request = new ScreenSequenceRequest(currentGameInfo.getGameName(), sequencePrompt);
+        request.setIntervalMillis(SEQUENCE_INTERVAL_MS);
+        FrameSequenceCodec.encode(frames, request);
+        
+        Platform.runLater(() -> makeCharacterSpeak("✅ 연속 화면 캡쳐 완료!\n🤖 흐름 분석중...", SpeechBubble.BubbleType.THINKING));
+        
+        long start = System.currentTimeMillis();
+        ScreenAnalysisResponse response = awaitAnalysis(apiClient.analyzeScreenSequenceAsync(request, ANALYSIS_TIMEOUT_MS));
+        System.out.println("[DEBUG] 연속 화면 분석 완료: " + (System.currentTimeMillis() - start) + "ms");
+        return response;
+    }
+    
+    /**
+     * 썸네일 기반 빠른 1차 분석 요청 생성 (썸네일 인코딩 실패 시 null - 상세 분석만 진행)
+     */
+    private ScreenAnalysisRequest createQuickRequest(BufferedImage capturedFrame, long frameHash, CaptureProfile captureProfile) {
+        byte[] thumbnail;
+        try {
+            thumbnail = ScreenCaptureUtil.encodeCapture(capturedFrame, captureProfile, CaptureQuality.THUMBNAIL);
+        } catch (RuntimeException e) {
+            System.err.println("[ERROR] 썸네일 인코딩 실패: " + e.getMessage());
+            return null;
+        }
+        String quickPrompt = String.format(
+            "%s 게임의 현재 화면 썸네일이야. 지금 상황에서 가장 중요한 조언을 한두 문장으로 짧게 알려줘!",
+            currentGameInfo.getGameName()
+        );
+        
+        ScreenAnalysisRequest quickRequest = new ScreenAnalysisRequest(
+            thumbnail,
+            currentGameInfo.getGameName(),
+            quickPrompt
+        );
+        quickRequest.setImageFormat(CaptureQuality.THUMBNAIL.getFormat());
+        quickRequest.setAnalysisPhase(ScreenAnalysisRequest.PHASE_QUICK);
+        quickRequest.setFrameHash(frameHash);
+        return quickRequest;
+    }
+    
     /**
      * 화면 분석 버튼 위치 업데이트 (캐릭터 오른쪽 위)
      */
@@ -464,6 +761,7 @@ public class CharacterOverlay {
             
             // 자동 활동 시작
             startIdleActivity();
+            updateSceneChangeWatcher();
         } else {
             // 게임 창 정보가 실제로 변경되었는지 확인
             boolean gameWindowChanged = false;
@@ -496,6 +794,8 @@ public class CharacterOverlay {
         speechBubble.hideImmediately();
         stopIdleActivity();
         stopActiveTimelines(); // 활성 Timeline들도 모두 중단
+        updateSceneChangeWatcher();
+        cancelPendingAnalysis();
     }
     
     /**
@@ -1118,42 +1418,29 @@ public class CharacterOverlay {
     }
     
     /**
-     * 게임별 특별 조언 제공
+     * 게임별 특별 조언 제공 (서버에서 미리 받아 둔 게임 팁 중 하나, 팁이 없으면 기본 인사)
      */
-    public void provideGameSpecificAdvice(String gameName) {
+    public void provideGameSpecificAdvice(GameTips tips) {
         if (!isCharacterActive) return;
         
-        String advice = getGameSpecificAdvice(gameName);
+        String advice = tips != null && !tips.isEmpty()
+            ? tips.getTips().get(random.nextInt(tips.getTips().size()))
+            : "멋진 게임이네요! 즐거운 플레이 되세요! 🎉";
         makeCharacterSpeak(advice, SpeechBubble.BubbleType.ADVICE);
     }
     
-    /**
-     * 게임별 조언 생성
-     */
-    private String getGameSpecificAdvice(String gameName) {
-        String lowerGameName = gameName.toLowerCase();
-        
-        if (lowerGameName.contains("league") || lowerGameName.contains("lol")) {
-            return "LoL 플레이 중이시네요! 미니맵을 자주 확인하세요! 🗺️";
-        } else if (lowerGameName.contains("overwatch")) {
-            return "오버워치! 팀과의 협력이 중요해요! 🤝";
-        } else if (lowerGameName.contains("minecraft")) {
-            return "마인크래프트에서 창의력을 발휘해보세요! ⛏️";
-        } else if (lowerGameName.contains("valorant")) {
-            return "발로란트! 정확한 에임과 전략이 중요해요! 🎯";
-        } else if (lowerGameName.contains("steam")) {
-            return "Steam 게임을 플레이 중이시네요! 즐거운 시간 되세요! 🎮";
-        } else {
-            return "멋진 게임이네요! 즐거운 플레이 되세요! 🎉";
-        }
-    }
-    
     /**
      * 리소스 정리
      */
     public void cleanup() {
         stopIdleActivity();
         stopActiveTimelines(); // 활성 Timeline들 정리
+        if (sceneChangeWatcher != null) {
+            sceneChangeWatcher.cancel();
+        }
+        cancelPendingAnalysis();
+        apiClient.getCircuitBreaker().removeListener(serverStateListener);
+        PushChannel.getInstance().removeListener(pushListener);
         
         if (character != null) {
             character.cleanup();
@@ -1170,13 +1457,64 @@ public class CharacterOverlay {
         return isCharacterActive;
     }
     
+    /**
+     * 스풀에 보관된 캡쳐 재전송 예약 (서버 연결 복구 시 기록 순서대로 분석)
+     */
+    public void replaySpooledCaptures() {
+        CaptureSpool.getInstance().scheduleReplay(apiClient, response -> {
+            if (!response.isSuccess()) return;
+            Platform.runLater(() -> {
+                // 진행 중인 분석 결과를 덮어쓰지 않음
+                if (isAnalyzing) return;
+                character.setState(AdvisorCharacter.AnimationState.TALKING);
+                makeCharacterSpeak("📦 저장해 둔 화면 분석 결과\n\n" + response.getAnalysis(), SpeechBubble.BubbleType.STRATEGY);
+            });
+        });
+    }
+    
+    /**
+     * 서킷 브레이커 상태 변경 처리 (OPEN: 경고 표시, CLOSED: 경고 숨김 + 스풀 재전송)
+     */
+    private void onServerStateChanged(CircuitBreaker.State state) {
+        CircuitBreaker breaker = apiClient.getCircuitBreaker();
+        if (state == CircuitBreaker.State.OPEN) {
+            long retryInMillis = breaker.getRetryInMillis();
+            // 새로고침 버튼은 백오프를 건너뛰고 즉시 연결 확인 (이미 확인 중이면 무시)
+            Platform.runLater(() -> showServerDisconnected(breaker::probeNow, retryInMillis));
+        } else if (state == CircuitBreaker.State.CLOSED) {
+            Platform.runLater(() -> {
+                hideServerDisconnected();
+                // 연결이 끊긴 동안 보관한 캡쳐 재전송
+                replaySpooledCaptures();
+            });
+        }
+    }
+
+    /**
+     * 서버 푸시 조언: 현재 게임 대상이면 말풍선으로 표시 (분석 중이거나 다른 말풍선이 떠 있으면 덮어쓰지 않음)
+     */
+    private void onPushMessage(PushMessage message) {
+        if (!message.is(PushMessage.ADVICE) || message.getMessage() == null) return;
+        Platform.runLater(() -> {
+            if (!isCharacterActive || currentGameInfo == null) return;
+            if (message.getGameName() != null && !message.getGameName().equalsIgnoreCase(currentGameInfo.getGameName())) return;
+            if (isAnalyzing || isSpeechBubbleActive) {
+                System.out.println("[DEBUG] 푸시 조언 건너뜀 (말풍선 표시 중): " + message.getMessage());
+                return;
+            }
+            makeCharacterSpeak("📢 " + message.getMessage(), SpeechBubble.BubbleType.ADVICE);
+        });
+    }
+
     /**
      * 서버 연결 실패 시 경고 메시지와 새로고침 버튼 표시
+     * @param retryInMillis 다음 자동 재연결 시도까지 남은 시간
      */
-    public void showServerDisconnected(Runnable onRefresh) {
+    public void showServerDisconnected(Runnable onRefresh, long retryInMillis) {
         serverDisconnected = true;
         if (speechBubble != null) {
-            speechBubble.showMessage("❌ 서버에 연결할 수 없습니다.\n네트워크 상태를 확인하거나, 새로고침을 시도해 주세요.", SpeechBubble.BubbleType.WARNING);
+            speechBubble.showMessage(String.format("❌ 서버에 연결할 수 없습니다.\n%d초 후 다시 연결을 시도합니다. 새로고침으로 바로 시도할 수 있어요.",
+                Math.max(1, (retryInMillis + 999) / 1000)), SpeechBubble.BubbleType.WARNING);
             speechBubble.showRefreshButton(onRefresh);
         }
     }
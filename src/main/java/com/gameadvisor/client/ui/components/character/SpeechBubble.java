@@ -623,6 +623,25 @@ public class SpeechBubble extends Group {
         );
     }
     
+    /**
+     * 표시 중인 공략 말풍선 뒤에 텍스트 이어 붙이기 (스트리밍 응답용)
+     * 사용자가 닫았거나 다른 타입의 말풍선이 표시 중이면 무시
+     */
+    public void appendText(String text) {
+        if (currentType != BubbleType.STRATEGY || (!isShowing() && !isMinimized)) return;
+
+        int previousLines = currentMessage.length() / CHARS_PER_LINE;
+        currentMessage = currentMessage + text;
+        textArea.appendText(text);
+
+        // 줄 수가 늘어날 때만 크기 재계산
+        if (currentMessage.length() / CHARS_PER_LINE != previousLines) {
+            calculateBubbleSize(currentMessage);
+            bubbleTail.setLayoutX(bubbleContainer.getWidth() / 2);
+            bubbleTail.setLayoutY(bubbleContainer.getHeight());
+        }
+    }
+
     /**
      * 말풍선 숨기기
      */
@@ -0,0 +1,171 @@
+package com.gameadvisor.client.util;
+
+import java.awt.Insets;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 레터박스/정적 테두리 자동 크롭 유틸리티
+ * 창 모드 게임의 클라이언트 영역 안쪽에 있는 단색 여백(검은 띠, 고정 프레임)을
+ * 가장자리에서 안쪽으로 스캔하여 찾아내고 인코딩 전에 잘라냄
+ * 감지 결과는 창 크기별로 캐시하고, 다음 프레임에서는 경계 한 줄만 재검증
+ * 화면 전체가 단색(로딩 화면 등)이면 여백으로 보지 않고 그대로 둠
+ */
+public class BorderCropper {
+
+    // 같은 색으로 볼 채널별 허용 오차 (압축/감마 노이즈 대응)
+    private static final int COLOR_TOLERANCE = 8;
+    // 한 방향에서 최대로 잘라낼 비율 (오탐으로 화면 대부분이 잘리는 것 방지)
+    private static final double MAX_CROP_RATIO = 0.4;
+    // 이 크기보다 작은 여백은 무시
+    private static final int MIN_BORDER = 2;
+
+    private static final Map<String, Insets> cropCache = new ConcurrentHashMap<>();
+    private static final AtomicLong totalSavedPixelBytes = new AtomicLong();
+    private static final AtomicLong croppedFrames = new AtomicLong();
+
+    /**
+     * 단색 여백을 잘라낸 이미지 반환 (여백이 없으면 원본 그대로 반환)
+     */
+    public static BufferedImage crop(BufferedImage image) {
+        return crop(image, cropBounds(image));
+    }
+
+    /**
+     * 단색 여백을 제외한 영역 계산 (여백이 없거나 화면 전체가 단색이면 이미지 전체)
+     * 연속 프레임은 첫 프레임에서 구한 영역을 모든 프레임에 그대로 적용하여 프레임 크기/위치를 맞춤
+     */
+    public static Rectangle cropBounds(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] pixels = PixelKernels.pixels(image);
+        String key = width + "x" + height;
+
+        Insets insets = cropCache.get(key);
+        if (insets == null || !isStillValid(pixels, width, height, insets)) {
+            insets = detectBorders(pixels, width, height);
+            if (insets == null) {
+                // 단색 화면에서 감지한 여백은 다음 프레임에 쓸 수 없으므로 캐시하지 않음
+                return new Rectangle(0, 0, width, height);
+            }
+            cropCache.put(key, insets);
+            System.out.println("[DEBUG] 테두리 감지 (" + key + "): top=" + insets.top +
+                ", bottom=" + insets.bottom + ", left=" + insets.left + ", right=" + insets.right);
+        }
+        return new Rectangle(insets.left, insets.top,
+            width - insets.left - insets.right, height - insets.top - insets.bottom);
+    }
+
+    /**
+     * 지정한 영역만 남기고 잘라냄 (영역이 이미지 전체면 원본 그대로 반환)
+     */
+    public static BufferedImage crop(BufferedImage image, Rectangle bounds) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        if (bounds.x == 0 && bounds.y == 0 && bounds.width == width && bounds.height == height) {
+            return image;
+        }
+
+        // 잘라낸 픽셀 수 x RGB 3바이트 (인코딩 전 원본 픽셀 기준, 인코딩 후 페이로드 절감량과는 다름)
+        long savedPixelBytes = ((long) width * height - (long) bounds.width * bounds.height) * 3;
+        long total = totalSavedPixelBytes.addAndGet(savedPixelBytes);
+        long frames = croppedFrames.incrementAndGet();
+        System.out.println("[DEBUG] 테두리 크롭: " + width + "x" + height + " -> " +
+            bounds.width + "x" + bounds.height + ", 원본 픽셀 " + savedPixelBytes + " bytes 제외 (누적 " +
+            frames + "프레임, " + total + " bytes)");
+
+        return image.getSubimage(bounds.x, bounds.y, bounds.width, bounds.height);
+    }
+
+    /**
+     * 누적으로 잘라낸 원본 픽셀 바이트 수 (RGB 3바이트 기준, 인코딩 후 크기 아님)
+     */
+    public static long getTotalSavedPixelBytes() {
+        return totalSavedPixelBytes.get();
+    }
+
+    /**
+     * 크롭이 적용된 프레임 수
+     */
+    public static long getCroppedFrames() {
+        return croppedFrames.get();
+    }
+
+    /**
+     * 캐시 초기화 (게임 변경 시 등)
+     */
+    public static void clearCache() {
+        cropCache.clear();
+    }
+
+    /**
+     * 네 방향 가장자리에서 안쪽으로 단색 줄을 스캔 (화면 전체가 단색이면 null)
+     */
+    private static Insets detectBorders(int[] pixels, int width, int height) {
+        int maxRows = (int) (height * MAX_CROP_RATIO);
+        int maxCols = (int) (width * MAX_CROP_RATIO);
+
+        int top = 0;
+        int topColor = pixels[0];
+        while (top < maxRows && isUniformRow(pixels, width, top, 0, width, topColor)) top++;
+
+        int bottom = 0;
+        int bottomColor = pixels[(height - 1) * width];
+        while (bottom < maxRows && isUniformRow(pixels, width, height - 1 - bottom, 0, width, bottomColor)) bottom++;
+
+        if (top >= maxRows && bottom >= maxRows && isUniformFrame(pixels, width, height, topColor)) {
+            // 위아래가 한도까지 단색이고 가운데도 같은 색: 여백이 아니라 로딩 화면 등 단색 화면
+            return null;
+        }
+
+        // 좌우는 위아래 띠를 제외한 구간만 검사
+        int rowStart = top;
+        int rowEnd = height - bottom;
+
+        int left = 0;
+        int leftColor = pixels[rowStart * width];
+        while (left < maxCols && isUniformColumn(pixels, width, left, rowStart, rowEnd, leftColor)) left++;
+
+        int right = 0;
+        int rightColor = pixels[rowStart * width + width - 1];
+        while (right < maxCols && isUniformColumn(pixels, width, width - 1 - right, rowStart, rowEnd, rightColor)) right++;
+
+        return new Insets(
+            top >= MIN_BORDER ? top : 0,
+            left >= MIN_BORDER ? left : 0,
+            bottom >= MIN_BORDER ? bottom : 0,
+            right >= MIN_BORDER ? right : 0
+        );
+    }
+
+    /**
+     * 캐시된 여백의 가장 안쪽 줄이 여전히 단색인지만 확인
+     */
+    private static boolean isStillValid(int[] pixels, int width, int height, Insets insets) {
+        if (insets.top > 0 && !isUniformRow(pixels, width, insets.top - 1, 0, width, pixels[0])) return false;
+        if (insets.bottom > 0 && !isUniformRow(pixels, width, height - insets.bottom, 0, width, pixels[(height - 1) * width])) return false;
+        int rowStart = insets.top;
+        int rowEnd = height - insets.bottom;
+        if (insets.left > 0 && !isUniformColumn(pixels, width, insets.left - 1, rowStart, rowEnd, pixels[rowStart * width])) return false;
+        if (insets.right > 0 && !isUniformColumn(pixels, width, width - insets.right, rowStart, rowEnd, pixels[rowStart * width + width - 1])) return false;
+        return true;
+    }
+
+    private static boolean isUniformFrame(int[] pixels, int width, int height, int color) {
+        for (int y = 0; y < height; y++) {
+            if (!isUniformRow(pixels, width, y, 0, width, color)) return false;
+        }
+        return true;
+    }
+
+    private static boolean isUniformRow(int[] pixels, int width, int y, int xStart, int xEnd, int color) {
+        return PixelKernels.isUniformRow(pixels, width, y, xStart, xEnd, color, COLOR_TOLERANCE);
+    }
+
+    private static boolean isUniformColumn(int[] pixels, int width, int x, int yStart, int yEnd, int color) {
+        return PixelKernels.isUniformColumn(pixels, width, x, yStart, yEnd, color, COLOR_TOLERANCE);
+    }
+}
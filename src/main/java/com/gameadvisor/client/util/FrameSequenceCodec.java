@@ -0,0 +1,130 @@
+package com.gameadvisor.client.util;
+
+import com.gameadvisor.client.model.ScreenSequenceRequest;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.awt.image.IndexColorModel;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 연속 프레임 압축 코덱 (indexed-xor-deflate)
+ * 1. 모든 프레임을 세로로 이어 붙여 하나의 공유 팔레트로 8비트 인덱스화
+ * 2. 첫 프레임은 인덱스 그대로, 이후 프레임은 직전 프레임과의 XOR 차분 (변하지 않은 픽셀은 0)
+ * 3. [팔레트 색상 수 2][팔레트 RGB 3 x N][프레임 인덱스...] 전체를 Deflate 압축
+ */
+public class FrameSequenceCodec {
+
+    /**
+     * 같은 크기의 프레임 목록을 요청 페이로드로 인코딩
+     */
+    public static void encode(List<BufferedImage> frames, ScreenSequenceRequest request) throws IOException {
+        int width = frames.get(0).getWidth();
+        int height = frames.get(0).getHeight();
+
+        // 프레임 전체를 한 장으로 합쳐 팔레트를 공유
+        BufferedImage sheet = new BufferedImage(width, height * frames.size(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = sheet.createGraphics();
+        try {
+            for (int i = 0; i < frames.size(); i++) {
+                g.drawImage(frames.get(i), 0, i * height, null);
+            }
+        } finally {
+            g.dispose();
+        }
+        BufferedImage indexed = PaletteQuantizer.toIndexed(sheet, null);
+        IndexColorModel colorModel = (IndexColorModel) indexed.getColorModel();
+        byte[] indices = ((DataBufferByte) indexed.getRaster().getDataBuffer()).getData();
+
+        // 뒤에서부터 차분을 계산해야 직전 프레임 원본 인덱스를 그대로 참조 가능
+        int frameSize = width * height;
+        for (int f = frames.size() - 1; f > 0; f--) {
+            int offset = f * frameSize;
+            int previous = offset - frameSize;
+            for (int i = 0; i < frameSize; i++) {
+                indices[offset + i] ^= indices[previous + i];
+            }
+        }
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(
+                new DeflaterOutputStream(baos, new Deflater(Deflater.BEST_COMPRESSION)))) {
+            int colors = colorModel.getMapSize();
+            out.writeShort(colors);
+            for (int i = 0; i < colors; i++) {
+                int rgb = colorModel.getRGB(i);
+                out.writeByte(rgb >> 16);
+                out.writeByte(rgb >> 8);
+                out.writeByte(rgb);
+            }
+            out.write(indices, 0, frameSize * frames.size());
+        }
+        byte[] payload = baos.toByteArray();
+
+        request.setFrameCount(frames.size());
+        request.setFrameWidth(width);
+        request.setFrameHeight(height);
+        request.setEncoding(ScreenSequenceRequest.ENCODING_INDEXED_XOR_DEFLATE);
+        request.setSequenceBase64(Base64.getEncoder().encodeToString(payload));
+
+        long rawBytes = (long) frameSize * frames.size() * 3;
+        System.out.println("[DEBUG] 연속 프레임 인코딩: " + frames.size() + "프레임 " + width + "x" + height +
+            ", 팔레트 " + colorModel.getMapSize() + "색, " + rawBytes + " -> " + payload.length + " bytes");
+    }
+
+    /**
+     * 페이로드를 프레임 목록으로 복원 (대역 서버/검증용)
+     */
+    public static List<BufferedImage> decode(ScreenSequenceRequest request) throws IOException {
+        if (!ScreenSequenceRequest.ENCODING_INDEXED_XOR_DEFLATE.equals(request.getEncoding())) {
+            throw new IOException("지원하지 않는 연속 프레임 인코딩: " + request.getEncoding());
+        }
+        int width = request.getFrameWidth();
+        int height = request.getFrameHeight();
+        int frameSize = width * height;
+
+        byte[] payload = Base64.getDecoder().decode(request.getSequenceBase64());
+        List<BufferedImage> frames = new ArrayList<>(request.getFrameCount());
+        try (DataInputStream in = new DataInputStream(
+                new InflaterInputStream(new ByteArrayInputStream(payload)))) {
+            int colors = in.readUnsignedShort();
+            int[] palette = new int[colors];
+            for (int i = 0; i < colors; i++) {
+                palette[i] = (in.readUnsignedByte() << 16) | (in.readUnsignedByte() << 8) | in.readUnsignedByte();
+            }
+
+            byte[] previous = new byte[frameSize];
+            byte[] current = new byte[frameSize];
+            for (int f = 0; f < request.getFrameCount(); f++) {
+                in.readFully(current);
+                if (f > 0) {
+                    for (int i = 0; i < frameSize; i++) {
+                        current[i] ^= previous[i];
+                    }
+                }
+                BufferedImage frame = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+                int[] pixels = PixelKernels.pixels(frame);
+                for (int i = 0; i < frameSize; i++) {
+                    pixels[i] = palette[current[i] & 0xFF];
+                }
+                frames.add(frame);
+
+                byte[] swap = previous;
+                previous = current;
+                current = swap;
+            }
+        }
+        return frames;
+    }
+}
@@ -0,0 +1,283 @@
+package com.gameadvisor.client.util;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.awt.image.IndexColorModel;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 8비트 인덱스 컬러 변환 유틸리티
+ * UI 비중이 큰 게임(카드/타워디펜스) 화면은 단색 영역이 넓어 인덱스 컬러 PNG로 훨씬 작게 압축됨
+ * 1. 고유 색상이 256개 이하이면 손실 없이 그대로 팔레트화
+ * 2. 그 이상이면 median-cut 팔레트로 양자화 (게임별로 팔레트 캐시)
+ */
+public class PaletteQuantizer {
+
+    private static final int MAX_COLORS = 256;
+    // 팔레트 생성 시 사용할 최대 샘플 픽셀 수
+    private static final int MAX_SAMPLES = 65536;
+    // 캐시된 팔레트를 이 프레임 수만큼 사용한 뒤 다시 생성 (장면 변화 반영)
+    private static final int PALETTE_REFRESH_FRAMES = 30;
+
+    private static final Map<String, Palette> paletteCache = new ConcurrentHashMap<>();
+
+    /**
+     * 이미지를 8비트 인덱스 컬러 이미지로 변환
+     * @param cacheKey 팔레트 캐시 키 (보통 게임 이름, null이면 캐시하지 않음)
+     */
+    public static BufferedImage toIndexed(BufferedImage image, String cacheKey) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
+
+        BufferedImage exact = tryExactPalette(pixels, width, height);
+        if (exact != null) {
+            return exact;
+        }
+
+        // 캐시된 팔레트는 여러 스레드(캡쳐 작업, 연속 프레임 인코딩)가 함께 쓰므로 사용 횟수를 원자적으로 증가
+        Palette palette = cacheKey != null ? paletteCache.get(cacheKey) : null;
+        if (palette == null || palette.uses.getAndIncrement() >= PALETTE_REFRESH_FRAMES) {
+            palette = Palette.build(pixels);
+            palette.uses.incrementAndGet();
+            if (cacheKey != null) {
+                paletteCache.put(cacheKey, palette);
+            }
+        }
+
+        BufferedImage indexed = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_INDEXED, palette.colorModel);
+        byte[] out = ((DataBufferByte) indexed.getRaster().getDataBuffer()).getData();
+        for (int i = 0; i < pixels.length; i++) {
+            out[i] = (byte) palette.indexOf(pixels[i]);
+        }
+        return indexed;
+    }
+
+    /**
+     * 게임별 팔레트 캐시 제거
+     */
+    public static void invalidate(String cacheKey) {
+        if (cacheKey != null) {
+            paletteCache.remove(cacheKey);
+        }
+    }
+
+    /**
+     * 고유 색상이 256개 이하인 경우 무손실 인덱스 이미지 생성 (초과 시 null)
+     */
+    private static BufferedImage tryExactPalette(int[] pixels, int width, int height) {
+        // 오픈 어드레싱 해시 (512칸, 최대 256색)
+        int[] keys = new int[512];
+        int[] slots = new int[512];
+        Arrays.fill(slots, -1);
+        int[] colors = new int[MAX_COLORS];
+        int count = 0;
+
+        byte[] indices = new byte[pixels.length];
+        int lastColor = 0;
+        int lastIndex = -1;
+        for (int i = 0; i < pixels.length; i++) {
+            int rgb = pixels[i] & 0xFFFFFF;
+            if (rgb == lastColor && lastIndex >= 0) {
+                indices[i] = (byte) lastIndex;
+                continue;
+            }
+            int h = (rgb * 0x9E3779B1) >>> 23;
+            while (slots[h] >= 0 && keys[h] != rgb) {
+                h = (h + 1) & 511;
+            }
+            if (slots[h] < 0) {
+                if (count == MAX_COLORS) {
+                    return null;
+                }
+                keys[h] = rgb;
+                slots[h] = count;
+                colors[count++] = rgb;
+            }
+            lastColor = rgb;
+            lastIndex = slots[h];
+            indices[i] = (byte) lastIndex;
+        }
+
+        IndexColorModel model = createColorModel(colors, count);
+        BufferedImage indexed = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_INDEXED, model);
+        byte[] out = ((DataBufferByte) indexed.getRaster().getDataBuffer()).getData();
+        System.arraycopy(indices, 0, out, 0, indices.length);
+        return indexed;
+    }
+
+    private static IndexColorModel createColorModel(int[] colors, int count) {
+        int size = Math.max(count, 2);
+        byte[] r = new byte[size];
+        byte[] g = new byte[size];
+        byte[] b = new byte[size];
+        for (int i = 0; i < count; i++) {
+            r[i] = (byte) (colors[i] >> 16);
+            g[i] = (byte) (colors[i] >> 8);
+            b[i] = (byte) colors[i];
+        }
+        int bits = 1;
+        while ((1 << bits) < size) bits++;
+        return new IndexColorModel(bits, size, r, g, b);
+    }
+
+    /**
+     * median-cut 팔레트 + RGB555 조회 테이블
+     */
+    private static class Palette {
+        final int[] colors;
+        final int count;
+        final IndexColorModel colorModel;
+        // RGB555 -> 팔레트 인덱스 (처음 조회 시 계산, -1은 미계산 - 동시에 계산해도 같은 값이라 잠그지 않음)
+        final short[] lookup = new short[32768];
+        final AtomicInteger uses = new AtomicInteger();
+
+        private Palette(int[] colors, int count) {
+            this.colors = colors;
+            this.count = count;
+            this.colorModel = createColorModel(colors, count);
+            Arrays.fill(lookup, (short) -1);
+        }
+
+        int indexOf(int rgb) {
+            int key = ((rgb >> 9) & 0x7C00) | ((rgb >> 6) & 0x03E0) | ((rgb >> 3) & 0x001F);
+            short index = lookup[key];
+            if (index < 0) {
+                index = (short) nearest(((key >> 10) << 3) | 4, (((key >> 5) & 31) << 3) | 4, ((key & 31) << 3) | 4);
+                lookup[key] = index;
+            }
+            return index;
+        }
+
+        private int nearest(int r, int g, int b) {
+            int best = 0;
+            int bestDistance = Integer.MAX_VALUE;
+            for (int i = 0; i < count; i++) {
+                int dr = ((colors[i] >> 16) & 0xFF) - r;
+                int dg = ((colors[i] >> 8) & 0xFF) - g;
+                int db = (colors[i] & 0xFF) - b;
+                int distance = dr * dr * 2 + dg * dg * 4 + db * db * 3;
+                if (distance < bestDistance) {
+                    bestDistance = distance;
+                    best = i;
+                }
+            }
+            return best;
+        }
+
+        static Palette build(int[] pixels) {
+            int step = Math.max(1, pixels.length / MAX_SAMPLES);
+            int[] samples = new int[(pixels.length + step - 1) / step];
+            int n = 0;
+            for (int i = 0; i < pixels.length; i += step) {
+                samples[n++] = pixels[i] & 0xFFFFFF;
+            }
+
+            // 박스 = 샘플 배열의 [start, end) 구간, 가장 큰 박스부터 분할
+            Deque<int[]> boxes = new ArrayDeque<>();
+            boxes.add(new int[] {0, n});
+            int[] temp = new int[n];
+            int[] done = new int[MAX_COLORS * 2];
+            int doneCount = 0;
+            while (!boxes.isEmpty() && boxes.size() + doneCount / 2 < MAX_COLORS) {
+                int[] box = removeLargest(boxes);
+                int start = box[0];
+                int end = box[1];
+                int channel = widestChannel(samples, start, end);
+                if (channel < 0 || end - start < 2) {
+                    done[doneCount++] = start;
+                    done[doneCount++] = end;
+                    continue;
+                }
+                int mid = partitionByChannel(samples, temp, start, end, channel);
+                boxes.add(new int[] {start, mid});
+                boxes.add(new int[] {mid, end});
+            }
+            for (int[] box : boxes) {
+                done[doneCount++] = box[0];
+                done[doneCount++] = box[1];
+            }
+
+            int[] colors = new int[MAX_COLORS];
+            int count = 0;
+            for (int i = 0; i < doneCount && count < MAX_COLORS; i += 2) {
+                if (done[i + 1] > done[i]) {
+                    colors[count++] = average(samples, done[i], done[i + 1]);
+                }
+            }
+            return new Palette(colors, count);
+        }
+
+        private static int[] removeLargest(Deque<int[]> boxes) {
+            int[] largest = null;
+            for (int[] box : boxes) {
+                if (largest == null || box[1] - box[0] > largest[1] - largest[0]) {
+                    largest = box;
+                }
+            }
+            boxes.remove(largest);
+            return largest;
+        }
+
+        // 값 범위가 가장 넓은 채널의 시프트 값 (16/8/0), 단색 박스면 -1
+        private static int widestChannel(int[] samples, int start, int end) {
+            int bestShift = -1;
+            int bestRange = 0;
+            for (int shift = 16; shift >= 0; shift -= 8) {
+                int min = 255;
+                int max = 0;
+                for (int i = start; i < end; i++) {
+                    int v = (samples[i] >> shift) & 0xFF;
+                    if (v < min) min = v;
+                    if (v > max) max = v;
+                }
+                if (max - min > bestRange) {
+                    bestRange = max - min;
+                    bestShift = shift;
+                }
+            }
+            return bestShift;
+        }
+
+        // 채널 값 기준 계수 정렬 후 중앙 인덱스 반환
+        private static int partitionByChannel(int[] samples, int[] temp, int start, int end, int shift) {
+            int[] counts = new int[257];
+            for (int i = start; i < end; i++) {
+                counts[((samples[i] >> shift) & 0xFF) + 1]++;
+            }
+            for (int v = 0; v < 256; v++) {
+                counts[v + 1] += counts[v];
+            }
+            for (int i = start; i < end; i++) {
+                temp[start + counts[(samples[i] >> shift) & 0xFF]++] = samples[i];
+            }
+            System.arraycopy(temp, start, samples, start, end - start);
+
+            // 중앙값이 같은 값들 사이에 걸리지 않도록 경계를 맞춤
+            int mid = (start + end) >>> 1;
+            int midValue = (samples[mid] >> shift) & 0xFF;
+            int lower = mid;
+            while (lower > start && ((samples[lower - 1] >> shift) & 0xFF) == midValue) lower--;
+            if (lower > start) return lower;
+            int upper = mid;
+            while (upper < end && ((samples[upper] >> shift) & 0xFF) == midValue) upper++;
+            return upper < end ? upper : mid;
+        }
+
+        private static int average(int[] samples, int start, int end) {
+            long r = 0, g = 0, b = 0;
+            for (int i = start; i < end; i++) {
+                r += (samples[i] >> 16) & 0xFF;
+                g += (samples[i] >> 8) & 0xFF;
+                b += samples[i] & 0xFF;
+            }
+            int n = end - start;
+            return (int) (r / n) << 16 | (int) (g / n) << 8 | (int) (b / n);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.gameadvisor.client.util;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+
+/**
+ * 캡쳐 후처리용 공용 픽셀 커널 모음
+ * 축소, 그레이스케일, 프레임 차이, 테두리 검사, 해시 등 ARGB int[] 기반 연산을 한 곳에 모음
+ * 연속 메모리를 훑는 커널(toLuma, meanAbsDiff, isUniformRow)은 실행 시 jdk.incubator.vector 모듈이 있고
+ * 하드웨어가 256비트 벡터를 지원하면 Vector API 구현(VectorPixelKernels)을, 아니면 스칼라 구현을 사용
+ * 좌표를 건너뛰며 읽는 커널(downscaleLuma, isUniformColumn)은 스칼라만 사용
+ *
+ * -Dgameadvisor.pixels.vector=false (Vector API 구현을 쓰지 않음)
+ * 비교: PixelKernelBenchmark (테스트 소스, --add-modules jdk.incubator.vector로 실행)
+ */
+public class PixelKernels {
+
+    // Vector API 구현 사용 여부 (모듈이 없으면 VectorPixelKernels를 로드하지 않도록 먼저 확인)
+    static final boolean VECTOR = Boolean.parseBoolean(System.getProperty("gameadvisor.pixels.vector", "true"))
+        && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()
+        && VectorPixelKernels.isSupported();
+
+    /**
+     * 이미지의 ARGB 픽셀 배열 반환
+     * Robot 캡쳐 결과(TYPE_INT_RGB/ARGB)는 복사 없이 래스터 배열을 그대로 사용
+     */
+    public static int[] pixels(BufferedImage image) {
+        int type = image.getType();
+        if ((type == BufferedImage.TYPE_INT_RGB || type == BufferedImage.TYPE_INT_ARGB)
+                && image.getRaster().getDataBuffer() instanceof DataBufferInt
+                && image.getRaster().getParent() == null) {
+            return ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        }
+        return image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+    }
+
+    /**
+     * 정수 근사 BT.601 밝기 (0~255)
+     */
+    public static int luma(int rgb) {
+        return (((rgb >> 16) & 0xFF) * 77 + ((rgb >> 8) & 0xFF) * 150 + (rgb & 0xFF) * 29) >> 8;
+    }
+
+    /**
+     * ARGB -> 8비트 밝기 변환
+     */
+    public static void toLuma(int[] argb, byte[] out) {
+        if (VECTOR) {
+            VectorPixelKernels.toLuma(argb, out);
+        } else {
+            toLumaScalar(argb, out);
+        }
+    }
+
+    static void toLumaScalar(int[] argb, byte[] out) {
+        for (int i = 0; i < argb.length; i++) {
+            int rgb = argb[i];
+            out[i] = (byte) ((((rgb >> 16) & 0xFF) * 77 + ((rgb >> 8) & 0xFF) * 150 + (rgb & 0xFF) * 29) >> 8);
+        }
+    }
+
+    /**
+     * 격자 샘플링 축소 + 밝기 변환
+     * 출력 한 칸마다 samplesPerCell x samplesPerCell 개의 픽셀만 읽어 평균 (전체 픽셀을 읽지 않음)
+     */
+    public static void downscaleLuma(int[] argb, int width, int height,
+                                     byte[] out, int outWidth, int outHeight, int samplesPerCell) {
+        int gridWidth = outWidth * samplesPerCell;
+        int gridHeight = outHeight * samplesPerCell;
+        // 샘플 좌표 미리 계산
+        int[] xs = new int[gridWidth];
+        for (int i = 0; i < gridWidth; i++) {
+            xs[i] = (int) ((long) i * width / gridWidth);
+        }
+        int samples = samplesPerCell * samplesPerCell;
+        int[] rowSums = new int[outWidth];
+        for (int ty = 0; ty < outHeight; ty++) {
+            java.util.Arrays.fill(rowSums, 0);
+            for (int sy = 0; sy < samplesPerCell; sy++) {
+                int offset = (int) ((long) (ty * samplesPerCell + sy) * height / gridHeight) * width;
+                for (int gx = 0; gx < gridWidth; gx++) {
+                    rowSums[gx / samplesPerCell] += luma(argb[offset + xs[gx]]);
+                }
+            }
+            int outOffset = ty * outWidth;
+            for (int tx = 0; tx < outWidth; tx++) {
+                out[outOffset + tx] = (byte) (rowSums[tx] / samples);
+            }
+        }
+    }
+
+    /**
+     * 두 밝기 프레임의 평균 절대 차이 (0.0 ~ 1.0)
+     */
+    public static double meanAbsDiff(byte[] a, byte[] b) {
+        long total = VECTOR ? VectorPixelKernels.sumAbsDiff(a, b) : sumAbsDiffScalar(a, b);
+        return total / (255.0 * a.length);
+    }
+
+    static long sumAbsDiffScalar(byte[] a, byte[] b) {
+        long total = 0;
+        for (int i = 0; i < a.length; i++) {
+            total += Math.abs((a[i] & 0xFF) - (b[i] & 0xFF));
+        }
+        return total;
+    }
+
+    /**
+     * 행 구간 [xStart, xEnd)가 기준색과 채널별 허용 오차 이내인지 검사
+     */
+    public static boolean isUniformRow(int[] argb, int width, int y, int xStart, int xEnd, int color, int tolerance) {
+        return VECTOR
+            ? VectorPixelKernels.isUniformRow(argb, y * width, xStart, xEnd, color, tolerance)
+            : isUniformRowScalar(argb, y * width, xStart, xEnd, color, tolerance);
+    }
+
+    static boolean isUniformRowScalar(int[] argb, int offset, int xStart, int xEnd, int color, int tolerance) {
+        int r = (color >> 16) & 0xFF;
+        int g = (color >> 8) & 0xFF;
+        int b = color & 0xFF;
+        // 행 단위로 위반 개수를 누적
+        int violations = 0;
+        for (int x = xStart; x < xEnd; x++) {
+            int p = argb[offset + x];
+            int d = Math.max(Math.abs(((p >> 16) & 0xFF) - r),
+                    Math.max(Math.abs(((p >> 8) & 0xFF) - g), Math.abs((p & 0xFF) - b)));
+            violations += d > tolerance ? 1 : 0;
+        }
+        return violations == 0;
+    }
+
+    /**
+     * 열 구간 [yStart, yEnd)가 기준색과 채널별 허용 오차 이내인지 검사
+     */
+    public static boolean isUniformColumn(int[] argb, int width, int x, int yStart, int yEnd, int color, int tolerance) {
+        for (int y = yStart; y < yEnd; y++) {
+            if (!isSimilar(argb[y * width + x], color, tolerance)) return false;
+        }
+        return true;
+    }
+
+    public static boolean isSimilar(int a, int b, int tolerance) {
+        return Math.abs(((a >> 16) & 0xFF) - ((b >> 16) & 0xFF)) <= tolerance
+            && Math.abs(((a >> 8) & 0xFF) - ((b >> 8) & 0xFF)) <= tolerance
+            && Math.abs((a & 0xFF) - (b & 0xFF)) <= tolerance;
+    }
+
+    /**
+     * 64비트 차이 해시(dHash) - 비슷한 화면은 해밍 거리가 작음
+     * 9x8 밝기 프레임에서 가로로 이웃한 픽셀의 밝기 대소를 비트로 기록
+     */
+    public static long differenceHash(int[] argb, int width, int height) {
+        byte[] small = new byte[9 * 8];
+        downscaleLuma(argb, width, height, small, 9, 8, 2);
+        long hash = 0;
+        for (int y = 0; y < 8; y++) {
+            for (int x = 0; x < 8; x++) {
+                int left = small[y * 9 + x] & 0xFF;
+                int right = small[y * 9 + x + 1] & 0xFF;
+                hash = (hash << 1) | (left > right ? 1 : 0);
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * 두 해시의 해밍 거리
+     */
+    public static int hammingDistance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+}
@@ -1,11 +1,21 @@
 package com.gameadvisor.client.util;
 
+import com.gameadvisor.client.model.CaptureProfile;
+import com.gameadvisor.client.model.CaptureQuality;
+import javax.imageio.IIOImage;
 import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.awt.image.DataBufferInt;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.List;
 
 /**
  * 화면 캡쳐 유틸리티 클래스
@@ -43,6 +53,36 @@ public class ScreenCaptureUtil {
         }
     }
     
+    /**
+     * 지정된 영역을 인코딩 없이 이미지로 캡쳐 (장면 감지 등 내부 처리용)
+     */
+    public static BufferedImage captureImage(Rectangle area) {
+        if (robot == null) {
+            throw new RuntimeException("Robot 인스턴스가 초기화되지 않았습니다.");
+        }
+        return robot.createScreenCapture(area);
+    }
+    
+    /**
+     * 지정된 영역에서 균등 간격의 가로줄 rows개만 캡쳐하여 area.width x rows 이미지로 반환
+     * 장면 감지처럼 작은 축소 프레임만 필요한 경우 전체 해상도 캡쳐(4K 기준 약 33MB 배열) 대신 사용
+     * 줄 위치는 PixelKernels.downscaleLuma가 원본 높이에서 고르는 샘플 줄과 같음
+     */
+    public static BufferedImage captureRows(Rectangle area, int rows) {
+        if (robot == null) {
+            throw new RuntimeException("Robot 인스턴스가 초기화되지 않았습니다.");
+        }
+        BufferedImage result = new BufferedImage(area.width, rows, BufferedImage.TYPE_INT_RGB);
+        int[] out = ((DataBufferInt) result.getRaster().getDataBuffer()).getData();
+        for (int i = 0; i < rows; i++) {
+            int y = (int) ((long) i * area.height / rows);
+            BufferedImage row = robot.createScreenCapture(new Rectangle(area.x, area.y + y, area.width, 1));
+            // 고해상도(DPI 배율) 화면에서는 캡쳐 결과 너비가 다를 수 있어 영역 너비만큼만 복사
+            row.getRGB(0, 0, Math.min(area.width, row.getWidth()), 1, out, i * area.width, area.width);
+        }
+        return result;
+    }
+    
     /**
      * 전체 화면을 캡쳐하여 Base64 문자열로 반환
      */
@@ -55,21 +95,230 @@ public class ScreenCaptureUtil {
      * BufferedImage를 Base64 문자열로 변환
      */
     private static String imageToBase64(BufferedImage image) throws IOException {
+        return Base64.getEncoder().encodeToString(pngBytes(image));
+    }
+    
+    private static byte[] pngBytes(BufferedImage image) throws IOException {
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
         ImageIO.write(image, "png", baos);
-        byte[] imageBytes = baos.toByteArray();
-        return Base64.getEncoder().encodeToString(imageBytes);
+        return baos.toByteArray();
     }
     
     /**
-     * 게임 창 영역만 캡쳐
+     * 게임 창 영역만 캡쳐 (레터박스/정적 테두리는 인코딩 전에 크롭)
      */
     public static String captureGameWindow(Rectangle gameRect) {
-        return captureScreenArea(
-            gameRect.x, 
-            gameRect.y, 
-            gameRect.width, 
-            gameRect.height
-        );
-    }
-} 
\ No newline at end of file
+        return captureGameWindow(gameRect, null, CaptureQuality.ORIGINAL);
+    }
+    
+    /**
+     * 캡쳐 프로필에 따라 게임 창의 관심 영역(ROI)만 캡쳐
+     * 여러 영역은 세로로 이어 붙여 한 장의 이미지로 전송
+     * 프로필이 없거나 영역이 비어 있으면 게임 창 전체를 캡쳐
+     */
+    public static String captureGameWindow(Rectangle gameRect, CaptureProfile profile) {
+        return captureGameWindow(gameRect, profile, CaptureQuality.ORIGINAL);
+    }
+    
+    /**
+     * 캡쳐 프로필 + 인코딩 품질(해상도 배율, 코덱)을 적용하여 캡쳐
+     */
+    public static String captureGameWindow(Rectangle gameRect, CaptureProfile profile, CaptureQuality quality) {
+        return Base64.getEncoder().encodeToString(encodeCapture(captureGameWindowImage(gameRect, profile), profile, quality));
+    }
+    
+    /**
+     * 게임 창을 캡쳐하여 인코딩 전 이미지로 반환 (ROI 합성/테두리 크롭까지 적용)
+     * 같은 프레임을 여러 품질로 인코딩할 때 사용
+     */
+    public static BufferedImage captureGameWindowImage(Rectangle gameRect, CaptureProfile profile) {
+        if (robot == null) {
+            throw new RuntimeException("Robot 인스턴스가 초기화되지 않았습니다.");
+        }
+        
+        try {
+            return profile != null && profile.hasRegions()
+                ? captureRegions(gameRect, profile.getRegions())
+                : BorderCropper.crop(robot.createScreenCapture(gameRect));
+        } catch (Exception e) {
+            throw new RuntimeException("화면 캡쳐 중 오류 발생: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * 일정 간격으로 게임 창을 연속 캡쳐하여 같은 크기의 축소 프레임 목록으로 반환
+     * 첫 프레임 기준으로 최대 너비에 맞춰 축소하고 이후 프레임도 같은 크기로 맞춤
+     * 테두리 크롭 영역도 첫 프레임에서 한 번만 구해 모든 프레임에 적용 (프레임마다 여백이 달라 늘어나거나 밀리지 않도록)
+     */
+    public static List<BufferedImage> captureGameWindowSequence(Rectangle gameRect, CaptureProfile profile,
+                                                                int frameCount, long intervalMillis, int maxWidth) {
+        if (robot == null) {
+            throw new RuntimeException("Robot 인스턴스가 초기화되지 않았습니다.");
+        }
+        boolean regions = profile != null && profile.hasRegions();
+        List<BufferedImage> frames = new ArrayList<>(frameCount);
+        Rectangle cropBounds = null;
+        int width = 0;
+        int height = 0;
+        long next = System.currentTimeMillis();
+        for (int i = 0; i < frameCount; i++) {
+            // 캡쳐 소요 시간과 무관하게 고정 간격 유지
+            long wait = next - System.currentTimeMillis();
+            if (wait > 0) {
+                try {
+                    Thread.sleep(wait);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            next += intervalMillis;
+            
+            BufferedImage frame;
+            if (regions) {
+                frame = captureGameWindowImage(gameRect, profile);
+            } else {
+                BufferedImage screen = robot.createScreenCapture(gameRect);
+                if (cropBounds == null) {
+                    cropBounds = BorderCropper.cropBounds(screen);
+                }
+                frame = BorderCropper.crop(screen, cropBounds);
+            }
+            if (i == 0) {
+                double factor = Math.min(1.0, (double) maxWidth / frame.getWidth());
+                width = Math.max(1, (int) Math.round(frame.getWidth() * factor));
+                height = Math.max(1, (int) Math.round(frame.getHeight() * factor));
+            }
+            frames.add(scale(frame, width, height));
+        }
+        return frames;
+    }
+    
+    /**
+     * 캡쳐 이미지를 프로필/품질 설정에 맞게 변환 후 인코딩 (Base64 변환은 JSON 본문으로 보낼 때만)
+     */
+    public static byte[] encodeCapture(BufferedImage image, CaptureProfile profile, CaptureQuality quality) {
+        try {
+            int originalWidth = image.getWidth();
+            int originalHeight = image.getHeight();
+            
+            if (quality.getScale() < 1.0) {
+                image = scale(image, quality.getScale());
+            }
+            
+            if (profile != null && profile.isGrayscale()) {
+                image = toGrayscale(image);
+            } else if (profile != null && profile.isIndexedColor() && !quality.isJpeg()) {
+                image = PaletteQuantizer.toIndexed(image, profile.getGameName());
+            }
+            
+            if (profile != null || quality.getLevel() != CaptureQuality.ORIGINAL.getLevel()) {
+                System.out.println("[DEBUG] 캡쳐 인코딩: " + (profile != null ? profile.getGameName() : "전체 화면") + 
+                    " " + image.getWidth() + "x" + image.getHeight() + 
+                    " (원본 " + originalWidth + "x" + originalHeight + "), " + quality);
+            }
+            
+            return encodeImage(image, quality);
+            
+        } catch (Exception e) {
+            throw new RuntimeException("캡쳐 이미지 인코딩 중 오류 발생: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * 품질 설정에 맞는 코덱으로 인코딩
+     */
+    private static byte[] encodeImage(BufferedImage image, CaptureQuality quality) throws IOException {
+        if (!quality.isJpeg()) {
+            return pngBytes(image);
+        }
+        
+        // JPEG는 알파/인덱스 컬러를 지원하지 않으므로 RGB로 맞춤
+        if (image.getType() != BufferedImage.TYPE_INT_RGB && image.getType() != BufferedImage.TYPE_BYTE_GRAY) {
+            BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = rgb.createGraphics();
+            try {
+                g.drawImage(image, 0, 0, null);
+            } finally {
+                g.dispose();
+            }
+            image = rgb;
+        }
+        
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(baos)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality.getJpegQuality());
+            writer.setOutput(ios);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return baos.toByteArray();
+    }
+    
+    /**
+     * 해상도 축소 (쌍선형 보간)
+     */
+    private static BufferedImage scale(BufferedImage image, double factor) {
+        int width = Math.max(1, (int) Math.round(image.getWidth() * factor));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * factor));
+        return scale(image, width, height);
+    }
+    
+    private static BufferedImage scale(BufferedImage image, int width, int height) {
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = scaled.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return scaled;
+    }
+    
+    /**
+     * 관심 영역들만 개별 캡쳐 후 세로로 합성
+     */
+    private static BufferedImage captureRegions(Rectangle gameRect, List<CaptureProfile.Region> regions) {
+        List<BufferedImage> parts = new ArrayList<>(regions.size());
+        int totalWidth = 0;
+        int totalHeight = 0;
+        for (CaptureProfile.Region region : regions) {
+            BufferedImage part = robot.createScreenCapture(region.toPixels(gameRect));
+            parts.add(part);
+            totalWidth = Math.max(totalWidth, part.getWidth());
+            totalHeight += part.getHeight();
+        }
+        
+        if (parts.size() == 1) {
+            return parts.get(0);
+        }
+        
+        BufferedImage combined = new BufferedImage(totalWidth, totalHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = combined.createGraphics();
+        try {
+            int offsetY = 0;
+            for (BufferedImage part : parts) {
+                g.drawImage(part, 0, offsetY, null);
+                offsetY += part.getHeight();
+            }
+        } finally {
+            g.dispose();
+        }
+        return combined;
+    }
+    
+    /**
+     * 8비트 그레이스케일 변환 (PNG 인코딩 크기 감소)
+     */
+    private static BufferedImage toGrayscale(BufferedImage image) {
+        BufferedImage gray = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_BYTE_GRAY);
+        byte[] out = ((DataBufferByte) gray.getRaster().getDataBuffer()).getData();
+        PixelKernels.toLuma(PixelKernels.pixels(image), out);
+        return gray;
+    }
+}
@@ -0,0 +1,94 @@
+package com.gameadvisor.client.util;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * PixelKernels의 Vector API(jdk.incubator.vector) 구현
+ * 실행 시 --add-modules jdk.incubator.vector가 있을 때만 PixelKernels가 이 클래스를 사용하므로
+ * 모듈이 없으면 로드되지 않음 (결과는 스칼라 구현과 같음)
+ * int 8개(256비트)와 byte 8개(64비트) 단위로 처리하고, 남은 끝부분은 스칼라로 처리
+ */
+final class VectorPixelKernels {
+
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_256;
+    private static final VectorSpecies<Byte> BYTES = ByteVector.SPECIES_64;
+    // int 레인 누적이 넘치지 않도록 long으로 옮기는 주기 (레인당 최대 255씩 증가)
+    private static final int FLUSH_ITERATIONS = 1 << 20;
+
+    private VectorPixelKernels() {
+    }
+
+    /**
+     * 256비트 벡터를 하드웨어가 직접 지원하는지 (AVX2 이상, 아니면 스칼라가 더 빠름)
+     */
+    static boolean isSupported() {
+        return IntVector.SPECIES_PREFERRED.vectorBitSize() >= INTS.vectorBitSize();
+    }
+
+    static void toLuma(int[] argb, byte[] out) {
+        int i = 0;
+        int bound = INTS.loopBound(argb.length);
+        for (; i < bound; i += INTS.length()) {
+            IntVector rgb = IntVector.fromArray(INTS, argb, i);
+            IntVector r = rgb.lanewise(VectorOperators.LSHR, 16).and(0xFF);
+            IntVector g = rgb.lanewise(VectorOperators.LSHR, 8).and(0xFF);
+            IntVector b = rgb.and(0xFF);
+            IntVector luma = r.mul(77).add(g.mul(150)).add(b.mul(29)).lanewise(VectorOperators.ASHR, 8);
+            ((ByteVector) luma.convertShape(VectorOperators.I2B, BYTES, 0)).intoArray(out, i);
+        }
+        for (; i < argb.length; i++) {
+            out[i] = (byte) PixelKernels.luma(argb[i]);
+        }
+    }
+
+    static long sumAbsDiff(byte[] a, byte[] b) {
+        long total = 0;
+        IntVector acc = IntVector.zero(INTS);
+        int i = 0;
+        int bound = BYTES.loopBound(a.length);
+        int iterations = 0;
+        for (; i < bound; i += BYTES.length()) {
+            IntVector va = unsigned(ByteVector.fromArray(BYTES, a, i));
+            IntVector vb = unsigned(ByteVector.fromArray(BYTES, b, i));
+            acc = acc.add(va.sub(vb).abs());
+            if (++iterations == FLUSH_ITERATIONS) {
+                total += acc.reduceLanesToLong(VectorOperators.ADD);
+                acc = IntVector.zero(INTS);
+                iterations = 0;
+            }
+        }
+        total += acc.reduceLanesToLong(VectorOperators.ADD);
+        for (; i < a.length; i++) {
+            total += Math.abs((a[i] & 0xFF) - (b[i] & 0xFF));
+        }
+        return total;
+    }
+
+    static boolean isUniformRow(int[] argb, int offset, int xStart, int xEnd, int color, int tolerance) {
+        int r = (color >> 16) & 0xFF;
+        int g = (color >> 8) & 0xFF;
+        int b = color & 0xFF;
+        int x = xStart;
+        int bound = xStart + INTS.loopBound(xEnd - xStart);
+        for (; x < bound; x += INTS.length()) {
+            IntVector p = IntVector.fromArray(INTS, argb, offset + x);
+            IntVector dr = p.lanewise(VectorOperators.LSHR, 16).and(0xFF).sub(r).abs();
+            IntVector dg = p.lanewise(VectorOperators.LSHR, 8).and(0xFF).sub(g).abs();
+            IntVector db = p.and(0xFF).sub(b).abs();
+            VectorMask<Integer> violations = dr.max(dg).max(db).compare(VectorOperators.GT, tolerance);
+            if (violations.anyTrue()) return false;
+        }
+        for (; x < xEnd; x++) {
+            if (!PixelKernels.isSimilar(argb[offset + x], color, tolerance)) return false;
+        }
+        return true;
+    }
+
+    private static IntVector unsigned(ByteVector bytes) {
+        return ((IntVector) bytes.convertShape(VectorOperators.B2I, INTS, 0)).and(0xFF);
+    }
+}
@@ -0,0 +1,83 @@
+package com.gameadvisor.client.network;
+
+import com.gameadvisor.client.model.ScreenAnalysisRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 서버 하나의 5xx가 전체 서킷 브레이커를 열지 않는지 대역 서버 2대로 확인
+ */
+class ApiClientFailoverTest {
+
+    // 대역 서버 quick 단계 지연(300ms)을 3ms로 줄임
+    private static final double DELAY_SCALE = 0.01;
+    private static final int REQUESTS = 10;
+
+    private LocalStandInServer failing;
+    private LocalStandInServer healthy;
+    private ApiClient apiClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        failing = new LocalStandInServer(0, DELAY_SCALE);
+        failing.start();
+        healthy = new LocalStandInServer(0, DELAY_SCALE);
+        healthy.start();
+        apiClient = StandInApiClients.connectTo(failing, healthy);
+    }
+
+    @AfterEach
+    void tearDown() {
+        failing.stop();
+        healthy.stop();
+    }
+
+    @Test
+    void oneFailingServerDoesNotOpenBreaker() throws Exception {
+        failing.failScreenRequests(503, Integer.MAX_VALUE);
+        int failures = 0;
+        for (int i = 0; i < REQUESTS; i++) {
+            try {
+                apiClient.analyzeScreen(request(i));
+            } catch (ApiClient.HttpStatusException e) {
+                assertEquals(503, e.getCode());
+                failures++;
+            }
+        }
+
+        // 실패한 서버는 제외되고 나머지 요청은 정상 서버가 처리
+        CircuitBreaker breaker = apiClient.getCircuitBreaker();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(0, breaker.getConsecutiveFailures());
+        assertEquals(REQUESTS - failures, healthy.getScreenRequestCount());
+        assertTrue(failures < REQUESTS, "실패 " + failures + "건");
+        apiClient.analyzeScreen(request(REQUESTS));
+    }
+
+    @Test
+    void everyServerFailingOpensBreaker() {
+        failing.failScreenRequests(503, Integer.MAX_VALUE);
+        healthy.failScreenRequests(503, Integer.MAX_VALUE);
+        CircuitBreaker breaker = apiClient.getCircuitBreaker();
+        for (int i = 0; i < REQUESTS && breaker.getState() == CircuitBreaker.State.CLOSED; i++) {
+            ScreenAnalysisRequest request = request(i);
+            assertThrows(ApiClient.HttpStatusException.class, () -> apiClient.analyzeScreen(request));
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertThrows(CircuitBreaker.OpenException.class, () -> apiClient.analyzeScreen(request(REQUESTS)));
+    }
+
+    private static ScreenAnalysisRequest request(int index) {
+        ScreenAnalysisRequest request = new ScreenAnalysisRequest("AAAAAAAA", "BloonsTD", "요청 " + index);
+        request.setImageFormat("png");
+        return request;
+    }
+}
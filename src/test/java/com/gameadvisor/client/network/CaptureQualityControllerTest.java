@@ -0,0 +1,58 @@
+package com.gameadvisor.client.network;
+
+import com.gameadvisor.client.model.CaptureQuality;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 적응형 캡쳐 품질 선택 (예상 지연 = 서버 처리 + 본문 크기 / 업로드 속도) 확인
+ */
+class CaptureQualityControllerTest {
+
+    private static final long TARGET_MILLIS = 10_000;
+    private static final long PNG_BYTES = 1_000_000;
+
+    @Test
+    void startsWithOriginalQuality() {
+        CaptureQualityController controller = new CaptureQualityController(TARGET_MILLIS, () -> false);
+        assertEquals(0, controller.nextQuality().getLevel());
+    }
+
+    @Test
+    void slowServerDoesNotLowerQuality() {
+        CaptureQualityController controller = new CaptureQualityController(TARGET_MILLIS, () -> false);
+        controller.recordEncoded(CaptureQuality.ORIGINAL, PNG_BYTES);
+        // 업로드는 0.5초, 서버 처리(LLM)가 12초: 화질을 낮춰도 줄지 않음
+        controller.recordTransfer(PNG_BYTES * 4 / 3, 500, 12_000);
+
+        assertEquals(0, controller.nextQuality().getLevel());
+        assertEquals(12_500, controller.predictLatencyMillis(0), 1);
+    }
+
+    @Test
+    void slowUploadLowersQuality() {
+        CaptureQualityController controller = new CaptureQualityController(TARGET_MILLIS, () -> false);
+        controller.recordEncoded(CaptureQuality.ORIGINAL, PNG_BYTES);
+        // 원본 업로드 20초, 서버 처리 1초: 업로드 예산 9초 안에 들어오는 JPEG 단계로 낮춤
+        controller.recordTransfer(PNG_BYTES * 4 / 3, 20_000, 1_000);
+
+        assertEquals(1, controller.nextQuality().getLevel());
+        assertEquals(1_000 + 20_000 * 0.30, controller.predictLatencyMillis(1), 1);
+    }
+
+    @Test
+    void rawImageBytesAreSmallerThanBase64() {
+        CaptureQualityController json = new CaptureQualityController(TARGET_MILLIS, () -> false);
+        CaptureQualityController smile = new CaptureQualityController(TARGET_MILLIS, () -> true);
+        for (CaptureQualityController controller : new CaptureQualityController[]{json, smile}) {
+            controller.recordEncoded(CaptureQuality.ORIGINAL, PNG_BYTES);
+            // 111KB/s: 원본 바이트는 9초, Base64는 12초
+            controller.recordTransfer(PNG_BYTES, 9_000, 1_000);
+        }
+
+        assertEquals(1, json.nextQuality().getLevel());
+        assertEquals(0, smile.nextQuality().getLevel());
+        assertEquals(10_000, smile.predictLatencyMillis(0), 1);
+    }
+}
@@ -0,0 +1,66 @@
+package com.gameadvisor.client.network;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 푸시 채널 연결 여부에 따른 연결 예열 생략 확인
+ */
+class ConnectionWarmerTest {
+
+    // 주기 실행은 테스트 중에 돌지 않도록 길게 두고 warm()을 직접 호출
+    private static final long INTERVAL_SECONDS = 3600;
+
+    private final AtomicBoolean pushConnected = new AtomicBoolean();
+    private final AtomicInteger warmUps = new AtomicInteger();
+    private final ConnectionWarmer warmer = new ConnectionWarmer(INTERVAL_SECONDS, pushConnected::get, () -> {
+        warmUps.incrementAndGet();
+        return 0;
+    });
+
+    @AfterEach
+    void tearDown() {
+        warmer.stop();
+    }
+
+    @Test
+    void skipsPeriodicWarmWhilePushConnected() throws Exception {
+        pushConnected.set(true);
+        warmer.start();
+        // 탐지 직후 예열은 푸시 채널 연결 중에도 수행
+        awaitWarmUps(1);
+
+        warmer.warm();
+        warmer.warm();
+        assertEquals(1, warmUps.get());
+
+        pushConnected.set(false);
+        warmer.warm();
+        assertEquals(2, warmUps.get());
+    }
+
+    @Test
+    void warmsPeriodicallyWithoutPush() throws Exception {
+        warmer.start();
+        awaitWarmUps(1);
+
+        warmer.warm();
+        warmer.warm();
+        assertEquals(3, warmUps.get());
+    }
+
+    private void awaitWarmUps(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (warmUps.get() < expected) {
+            assertTrue(System.nanoTime() < deadline, "5초 안에 예열하지 않음");
+            Thread.sleep(10);
+        }
+        assertEquals(expected, warmUps.get());
+    }
+}
@@ -0,0 +1,184 @@
+package com.gameadvisor.client.network;
+
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 여러 서버 분산(EndpointSelector)을 지연이 다른 대역 서버 2대와 닫힌 포트 하나로 확인
+ */
+class EndpointSelectorTest {
+
+    // quick 단계 지연 300ms 기준 빠른 서버 30ms, 느린 서버 120ms
+    private static final double FAST_DELAY_SCALE = 0.1;
+    private static final double SLOW_DELAY_SCALE = 0.4;
+    private static final int EJECT_AFTER_FAILURES = 2;
+    private static final long EJECT_MILLIS = 300;
+    private static final int REQUESTS = 30;
+    private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+    private static final String QUICK_REQUEST = "{\"gameName\":\"BloonsTD\",\"analysisPhase\":\"quick\",\"imageBase64\":\"AAAA\"}";
+
+    private LocalStandInServer fast;
+    private LocalStandInServer slow;
+    private int deadPort;
+    private EndpointSelector selector;
+    private EndpointSelector.Endpoint dead;
+    private OkHttpClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        fast = new LocalStandInServer(0, FAST_DELAY_SCALE);
+        fast.start();
+        slow = new LocalStandInServer(0, SLOW_DELAY_SCALE);
+        slow.start();
+        int deadPort;
+        try (ServerSocket socket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            deadPort = socket.getLocalPort();
+        }
+        // 응답 기록이 없는 서버는 점수가 같으므로 목록 앞의 닫힌 포트가 먼저 선택됨
+        this.deadPort = deadPort;
+        selector = new EndpointSelector(List.of(baseUrl(deadPort), baseUrl(slow.getPort()), baseUrl(fast.getPort())),
+            false, EJECT_AFTER_FAILURES, EJECT_MILLIS);
+        dead = selector.all().get(0);
+        client = new OkHttpClient.Builder()
+                .addInterceptor(selector.interceptor())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        fast.stop();
+        slow.stop();
+        client.dispatcher().executorService().shutdown();
+        client.connectionPool().evictAll();
+    }
+
+    @Test
+    void fasterServerReceivesMostTraffic() throws IOException {
+        for (int i = 0; i < REQUESTS; i++) {
+            send();
+        }
+
+        int fastCount = fast.getScreenRequestCount();
+        int slowCount = slow.getScreenRequestCount();
+        // 닫힌 포트로 간 요청도 다른 서버로 재시도되어 모두 성공
+        assertEquals(REQUESTS, fastCount + slowCount);
+        assertTrue(fastCount >= REQUESTS * 3 / 4, "빠른 서버 " + fastCount + "건, 느린 서버 " + slowCount + "건");
+        assertTrue(fastCount > slowCount);
+    }
+
+    @Test
+    void deadServerIsEjectedWithDoublingDuration() throws Exception {
+        long[] first = sendUntilEjections(1);
+        long firstUntil = dead.ejectedUntilMillis();
+        assertTrue(dead.isEjected(System.currentTimeMillis()));
+        assertEjectedFor(EJECT_MILLIS, first, firstUntil);
+
+        // 제외 중에는 닫힌 포트로 요청하지 않음
+        int before = fast.getScreenRequestCount() + slow.getScreenRequestCount();
+        send();
+        assertEquals(1, dead.ejections());
+        assertEquals(before + 1, fast.getScreenRequestCount() + slow.getScreenRequestCount());
+        assertFalse(selector.available().contains(dead));
+
+        // 제외가 끝나고 다시 연속 실패하면 제외 시간 2배
+        Thread.sleep(Math.max(0, firstUntil - System.currentTimeMillis()) + 20);
+        assertTrue(selector.available().contains(dead));
+        long[] second = sendUntilEjections(2);
+        assertEjectedFor(EJECT_MILLIS * 2, second, dead.ejectedUntilMillis());
+    }
+
+    @Test
+    void connectFailoverKeepsAffinityKey() throws IOException {
+        // 닫힌 포트가 1순위인 키와 그 키의 2순위 서버 찾기
+        String deadUrl = baseUrl(deadPort);
+        EndpointSelector ranking = new EndpointSelector(List.of(deadUrl, baseUrl(fast.getPort()), baseUrl(slow.getPort())),
+            true, EJECT_AFTER_FAILURES, EJECT_MILLIS);
+        EndpointSelector withoutDead = new EndpointSelector(List.of(baseUrl(fast.getPort()), baseUrl(slow.getPort())),
+            true, EJECT_AFTER_FAILURES, EJECT_MILLIS);
+        String key = null;
+        for (int i = 0; i < 1000 && key == null; i++) {
+            if (ranking.select("vector_table_" + i).url("").equals(deadUrl)) {
+                key = "vector_table_" + i;
+            }
+        }
+        assertTrue(key != null, "닫힌 포트가 1순위인 키를 찾지 못함");
+        String second = withoutDead.select(key).url("");
+        LocalStandInServer secondServer = second.equals(baseUrl(fast.getPort())) ? fast : slow;
+        LocalStandInServer other = secondServer == fast ? slow : fast;
+
+        // 기록이 없으면 점수가 같아 목록 순서가 먼저이므로, 키를 잃으면 2순위가 아닌 서버로 재시도됨
+        EndpointSelector affinitySelector = new EndpointSelector(List.of(deadUrl, baseUrl(other.getPort()), second),
+            true, EJECT_AFTER_FAILURES, EJECT_MILLIS);
+        OkHttpClient affinityClient = new OkHttpClient.Builder()
+                .addInterceptor(affinitySelector.interceptor())
+                .build();
+        Request request = new Request.Builder()
+                .url(affinitySelector.select(key).url("/advice/screen"))
+                .post(RequestBody.create(QUICK_REQUEST, JSON))
+                .tag(EndpointSelector.AffinityTag.class, new EndpointSelector.AffinityTag(key))
+                .build();
+        try (Response response = affinityClient.newCall(request).execute()) {
+            assertEquals(200, response.code());
+        } finally {
+            affinityClient.dispatcher().executorService().shutdown();
+            affinityClient.connectionPool().evictAll();
+        }
+
+        // 닫힌 포트 다음 순위 서버로 재시도
+        assertEquals(1, secondServer.getScreenRequestCount());
+        assertEquals(0, other.getScreenRequestCount());
+    }
+
+    /**
+     * 닫힌 포트의 제외 횟수가 expected가 될 때까지 요청
+     * @return 제외를 일으킨 요청의 시작/끝 시각
+     */
+    private long[] sendUntilEjections(int expected) throws IOException {
+        for (int i = 0; i < EJECT_AFTER_FAILURES * 2; i++) {
+            long start = System.currentTimeMillis();
+            send();
+            long end = System.currentTimeMillis();
+            if (dead.ejections() == expected) {
+                return new long[]{start, end};
+            }
+        }
+        throw new AssertionError("닫힌 포트가 제외되지 않음: " + selector.stats());
+    }
+
+    /**
+     * 제외 종료 시각이 요청 시작/끝 시각 + 제외 시간 사이인지 확인
+     */
+    private static void assertEjectedFor(long ejectMillis, long[] window, long ejectedUntil) {
+        assertTrue(ejectedUntil >= window[0] + ejectMillis && ejectedUntil <= window[1] + ejectMillis,
+            "제외 종료 " + ejectedUntil + ", 요청 " + window[0] + "~" + window[1] + ", 기대 제외 " + ejectMillis + "ms");
+    }
+
+    private void send() throws IOException {
+        Request request = new Request.Builder()
+                .url(selector.select(null).url("/advice/screen"))
+                .post(RequestBody.create(QUICK_REQUEST, JSON))
+                .build();
+        try (Response response = client.newCall(request).execute()) {
+            assertEquals(200, response.code());
+        }
+    }
+
+    private static String baseUrl(int port) {
+        return "http://127.0.0.1:" + port + "/api";
+    }
+}
@@ -0,0 +1,158 @@
+package com.gameadvisor.client.network;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gameadvisor.client.model.CaptureProfile;
+import com.gameadvisor.client.model.Game;
+import com.gameadvisor.client.model.ScreenAnalysisRequest;
+import com.gameadvisor.client.model.ScreenAnalysisResponse;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 문자열 경유 JSON 변환(기존) vs JsonCodec 스트리밍 변환 vs Smile(바이너리) 변환 벤치마크
+ * 대표 페이로드(게임 목록, 분석 응답, 이미지가 담긴 분석 요청)로 본문 크기와 1회당 시간/할당 바이트를 비교
+ *
+ * 사용법: java ... com.gameadvisor.client.network.JsonCodecBenchmark [반복 횟수] [게임 수] [이미지 KB]
+ */
+public class JsonCodecBenchmark {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @FunctionalInterface
+    private interface Op {
+        Object run() throws Exception;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+        int gameCount = args.length > 1 ? Integer.parseInt(args[1]) : 50;
+        int imageKb = args.length > 2 ? Integer.parseInt(args[2]) : 300;
+
+        byte[] gamesJson = MAPPER.writeValueAsBytes(games(gameCount));
+        byte[] analysisJson = MAPPER.writeValueAsBytes(analysisResponse());
+        ScreenAnalysisRequest request = analysisRequest(imageKb);
+        byte[] gamesSmile = JsonCodec.toBytes(games(gameCount), true);
+        byte[] analysisSmile = JsonCodec.toBytes(analysisResponse(), true);
+
+        System.out.println(String.format("페이로드: 게임 목록 %d bytes, 분석 응답 %d bytes, 분석 요청 이미지 %dKB, 반복 %d회",
+            gamesJson.length, analysisJson.length, imageKb, iterations));
+        System.out.println(String.format("본문 크기 JSON -> Smile: 게임 목록 %d -> %d, 분석 응답 %d -> %d, 분석 요청 %d -> %d bytes",
+            gamesJson.length, gamesSmile.length, analysisJson.length, analysisSmile.length,
+            JsonCodec.toBytes(request).length, JsonCodec.toBytes(request, true).length));
+        System.out.println(String.format("%-28s %12s %14s", "case", "us/op", "alloc B/op"));
+
+        TypeReference<List<Game>> gameList = new TypeReference<List<Game>>() {};
+        measure("games: string", iterations,
+            () -> MAPPER.readValue(body(gamesJson).string(), gameList));
+        measure("games: streaming", iterations,
+            () -> JsonCodec.read(JsonCodec.GAMES, body(gamesJson)));
+        measure("games: smile", iterations,
+            () -> JsonCodec.read(JsonCodec.GAMES, body(gamesSmile, JsonCodec.SMILE)));
+
+        measure("analysis: string", iterations,
+            () -> MAPPER.readValue(body(analysisJson).string(), ScreenAnalysisResponse.class));
+        measure("analysis: streaming", iterations,
+            () -> JsonCodec.read(JsonCodec.ANALYSIS, body(analysisJson)));
+        measure("analysis: smile", iterations,
+            () -> JsonCodec.read(JsonCodec.ANALYSIS, body(analysisSmile, JsonCodec.SMILE)));
+
+        int requestIterations = Math.max(1, iterations / 10);
+        measure("request: string", requestIterations, () -> {
+            Buffer sink = new Buffer();
+            RequestBody.create(MAPPER.writeValueAsString(request), JsonCodec.JSON).writeTo(sink);
+            return sink.size();
+        });
+        measure("request: streaming", requestIterations, () -> {
+            Buffer sink = new Buffer();
+            JsonCodec.streamingBody(request).writeTo(sink);
+            return sink.size();
+        });
+        measure("request: smile", requestIterations, () -> {
+            Buffer sink = new Buffer();
+            JsonCodec.streamingBody(request, true).writeTo(sink);
+            return sink.size();
+        });
+    }
+
+    private static ResponseBody body(byte[] json) {
+        return body(json, JsonCodec.JSON);
+    }
+
+    private static ResponseBody body(byte[] bytes, MediaType contentType) {
+        // 네트워크 소켓 대신 Okio 버퍼를 소스로 사용
+        return ResponseBody.create(new Buffer().write(bytes), contentType, bytes.length);
+    }
+
+    private static void measure(String name, int iterations, Op op) throws Exception {
+        // 워밍업
+        for (int i = 0; i < Math.max(10, iterations / 5); i++) {
+            op.run();
+        }
+
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long allocStart = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        Object sink = null;
+        for (int i = 0; i < iterations; i++) {
+            sink = op.run();
+        }
+        long nanos = System.nanoTime() - start;
+        long alloc = threads.getThreadAllocatedBytes(threadId) - allocStart;
+        if (sink == null) {
+            System.out.println("결과 없음: " + name);
+        }
+
+        System.out.println(String.format("%-28s %12.1f %14d", name, nanos / 1e3 / iterations, alloc / iterations));
+    }
+
+    private static List<Game> games(int count) {
+        List<Game> games = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Game game = new Game();
+            game.setId((long) i);
+            game.setName("Game" + i);
+            game.setDisplayName("테스트 게임 " + i);
+            game.setProcessName("game" + i + ".exe");
+            game.setVectorTableName("game" + i + "_vectors");
+            game.setIsActive(true);
+            game.setDescription("게임 설명 " + i + " - 전략, 덱 구성, 공략 팁을 제공합니다.");
+            List<CaptureProfile.Region> regions = new ArrayList<>();
+            regions.add(new CaptureProfile.Region(0.0, 0.1, 0.7, 0.8));
+            regions.add(new CaptureProfile.Region(0.75, 0.0, 0.25, 1.0));
+            game.setCaptureProfile(new CaptureProfile("Game" + i, regions, i % 2 == 0));
+            games.add(game);
+        }
+        return games;
+    }
+
+    private static ScreenAnalysisResponse analysisResponse() {
+        StringBuilder analysis = new StringBuilder();
+        for (int i = 0; i < 40; i++) {
+            analysis.append("라운드 ").append(i).append(": 현재 배치된 타워와 남은 골드를 고려하면 다음 웨이브 전에 업그레이드를 권장합니다. ");
+        }
+        ScreenAnalysisResponse response = new ScreenAnalysisResponse();
+        response.setAnalysis(analysis.toString());
+        response.setAdvice("다음 웨이브 전에 방어 타워를 업그레이드하세요.");
+        response.setCharacterName("어드바이저");
+        response.setGameContext("BloonsTD");
+        response.setTimestamp("2024-01-01T00:00:00");
+        response.setSuccess(true);
+        return response;
+    }
+
+    private static ScreenAnalysisRequest analysisRequest(int imageKb) {
+        byte[] image = new byte[imageKb * 1024];
+        new Random(42).nextBytes(image);
+        return new ScreenAnalysisRequest(image, "BloonsTD", "벤치마크");
+    }
+}
@@ -0,0 +1,269 @@
+package com.gameadvisor.client.network;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬 대역 서버의 푸시 채널 (최소 WebSocket 서버, 텍스트 프레임 전송과 ping/pong/close만 처리)
+ * JDK HttpServer는 연결 업그레이드를 지원하지 않아 별도 포트에서 받고, 대역 서버의 /api/push가 이 포트로 리다이렉트
+ * 연결 직후와 주기적으로 health 메시지를, 설정한 간격마다 예시 조언을 보냄
+ *
+ * -Dgameadvisor.standin.pushHealthSeconds=10 -Dgameadvisor.standin.pushAdviceSeconds=60 (0이면 보내지 않음)
+ */
+class LocalStandInPushServer {
+
+    private static final String WEBSOCKET_GUID = "258EAFA5-E914-47DA-95CA-C5AB0DC85B11";
+    private static final int OPCODE_TEXT = 0x1;
+    private static final int OPCODE_CLOSE = 0x8;
+    private static final int OPCODE_PING = 0x9;
+    private static final int OPCODE_PONG = 0xA;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final ServerSocket serverSocket;
+    private final List<Connection> connections = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService executor = Executors.newScheduledThreadPool(2, r -> {
+        Thread thread = new Thread(r, "standin-push");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final long healthSeconds = Long.getLong("gameadvisor.standin.pushHealthSeconds", 10L);
+    private final long adviceSeconds = Long.getLong("gameadvisor.standin.pushAdviceSeconds", 60L);
+
+    LocalStandInPushServer() throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+    }
+
+    int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    void start() {
+        Thread acceptor = new Thread(this::acceptLoop, "standin-push-accept");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        if (healthSeconds > 0) {
+            executor.scheduleWithFixedDelay(() -> broadcast(health()), healthSeconds, healthSeconds, TimeUnit.SECONDS);
+        }
+        if (adviceSeconds > 0) {
+            executor.scheduleWithFixedDelay(() -> broadcast(advice(null, "잠깐! 지금까지의 플레이를 화면 분석으로 점검해 볼까요? 🔍")),
+                adviceSeconds, adviceSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    void stop() {
+        executor.shutdownNow();
+        dropAll();
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            // 종료 중
+        }
+    }
+
+    /**
+     * 연결된 모든 클라이언트에 메시지 전송
+     */
+    void broadcast(ObjectNode message) {
+        byte[] payload;
+        try {
+            payload = mapper.writeValueAsBytes(message);
+        } catch (IOException e) {
+            return;
+        }
+        for (Connection connection : connections) {
+            connection.send(OPCODE_TEXT, payload);
+        }
+        System.out.println("[DEBUG] 대역 서버 푸시 (" + connections.size() + "개 연결): " + message);
+    }
+
+    ObjectNode advice(String gameName, String text) {
+        ObjectNode message = mapper.createObjectNode();
+        message.put("type", "advice");
+        if (gameName != null) {
+            message.put("gameName", gameName);
+        }
+        message.put("message", text);
+        return message;
+    }
+
+    ObjectNode catalog() {
+        ObjectNode message = mapper.createObjectNode();
+        message.put("type", "catalog");
+        return message;
+    }
+
+    private ObjectNode health() {
+        ObjectNode message = mapper.createObjectNode();
+        message.put("type", "health");
+        message.put("status", "ok");
+        return message;
+    }
+
+    /**
+     * 모든 연결을 close 프레임 없이 끊음 (클라이언트 재연결 확인용)
+     */
+    void dropAll() {
+        for (Connection connection : connections) {
+            connection.close();
+        }
+    }
+
+    int connectionCount() {
+        return connections.size();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                executor.execute(() -> serve(socket));
+            } catch (IOException e) {
+                // 종료 중
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        Connection connection;
+        try {
+            connection = handshake(socket);
+        } catch (IOException | NoSuchAlgorithmException e) {
+            System.err.println("대역 서버 푸시 핸드셰이크 실패: " + e.getMessage());
+            closeQuietly(socket);
+            return;
+        }
+        connections.add(connection);
+        System.out.println("[DEBUG] 대역 서버 푸시 연결 (" + connections.size() + "개)");
+        try {
+            connection.send(OPCODE_TEXT, mapper.writeValueAsBytes(health()));
+            connection.readLoop();
+        } catch (IOException e) {
+            // 클라이언트가 끊음
+        } finally {
+            connections.remove(connection);
+            connection.close();
+        }
+    }
+
+    private Connection handshake(Socket socket) throws IOException, NoSuchAlgorithmException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.ISO_8859_1));
+        String key = null;
+        String line;
+        while ((line = reader.readLine()) != null && !line.isEmpty()) {
+            int colon = line.indexOf(':');
+            if (colon > 0 && line.substring(0, colon).trim().equalsIgnoreCase("Sec-WebSocket-Key")) {
+                key = line.substring(colon + 1).trim();
+            }
+        }
+        if (key == null) {
+            throw new IOException("Sec-WebSocket-Key 없음");
+        }
+        byte[] digest = MessageDigest.getInstance("SHA-1").digest((key + WEBSOCKET_GUID).getBytes(StandardCharsets.ISO_8859_1));
+        String response = "HTTP/1.1 101 Switching Protocols\r\n" +
+            "Upgrade: websocket\r\n" +
+            "Connection: Upgrade\r\n" +
+            "Sec-WebSocket-Accept: " + Base64.getEncoder().encodeToString(digest) + "\r\n\r\n";
+        OutputStream out = socket.getOutputStream();
+        out.write(response.getBytes(StandardCharsets.ISO_8859_1));
+        out.flush();
+        // 핸드셰이크 헤더 뒤에는 클라이언트가 먼저 보내는 프레임이 없으므로 버퍼에 남은 데이터 없음
+        return new Connection(socket);
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // 이미 닫힘
+        }
+    }
+
+    /**
+     * 클라이언트 연결 하나 (서버 -> 클라이언트 프레임은 마스킹하지 않음)
+     */
+    private static class Connection {
+        private final Socket socket;
+        private final DataInputStream in;
+        private final OutputStream out;
+
+        Connection(Socket socket) throws IOException {
+            this.socket = socket;
+            this.in = new DataInputStream(socket.getInputStream());
+            this.out = socket.getOutputStream();
+        }
+
+        void readLoop() throws IOException {
+            while (true) {
+                int first = in.readUnsignedByte();
+                int second = in.readUnsignedByte();
+                int opcode = first & 0x0F;
+                long length = second & 0x7F;
+                if (length == 126) {
+                    length = in.readUnsignedShort();
+                } else if (length == 127) {
+                    length = in.readLong();
+                }
+                byte[] mask = new byte[4];
+                if ((second & 0x80) != 0) {
+                    in.readFully(mask);
+                }
+                byte[] payload = new byte[(int) length];
+                in.readFully(payload);
+                for (int i = 0; i < payload.length; i++) {
+                    payload[i] ^= mask[i % 4];
+                }
+
+                if (opcode == OPCODE_PING) {
+                    send(OPCODE_PONG, payload);
+                } else if (opcode == OPCODE_CLOSE) {
+                    send(OPCODE_CLOSE, payload);
+                    return;
+                }
+            }
+        }
+
+        synchronized void send(int opcode, byte[] payload) {
+            try {
+                out.write(0x80 | opcode);
+                if (payload.length < 126) {
+                    out.write(payload.length);
+                } else if (payload.length <= 0xFFFF) {
+                    out.write(126);
+                    out.write(payload.length >>> 8);
+                    out.write(payload.length & 0xFF);
+                } else {
+                    out.write(127);
+                    for (int shift = 56; shift >= 0; shift -= 8) {
+                        out.write((int) ((long) payload.length >>> shift) & 0xFF);
+                    }
+                }
+                out.write(payload);
+                out.flush();
+            } catch (IOException e) {
+                close();
+            }
+        }
+
+        void close() {
+            closeQuietly(socket);
+        }
+    }
+}
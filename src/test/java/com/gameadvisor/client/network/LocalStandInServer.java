@@ -0,0 +1,528 @@
+package com.gameadvisor.client.network;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.gameadvisor.client.model.ScreenSequenceRequest;
+import com.gameadvisor.client.util.FrameSequenceCodec;
+import com.gameadvisor.client.util.PixelKernels;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.awt.image.BufferedImage;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 클라이언트 기능 확인용 로컬 대역 서버 (테스트 소스, 네트워크 테스트에서도 사용)
+ * 실제 어드바이스 서버 없이 /api/games(/{id}/tips), /api/advice/screen(/stream, /sequence), /api/push(WebSocket) 흐름을 재현
+ *
+ * 실행: java ... com.gameadvisor.client.network.LocalStandInServer [포트] [지연 배율]
+ * 클라이언트: -Dgameadvisor.server.baseUrl=http://localhost:18080/api
+ * 여러 대 실행 후 -Dgameadvisor.server.baseUrls=http://localhost:18080/api,http://localhost:18081/api 로 부하 분산 확인
+ * (지연 배율을 다르게 주면 느린 서버로 가는 요청이 줄어드는지 볼 수 있음)
+ */
+public class LocalStandInServer {
+
+    private static final int DEFAULT_PORT = 18080;
+    // quick 단계는 짧게, full 단계는 실제 LLM처럼 길게 지연
+    private static final long QUICK_DELAY_MS = 300;
+    private static final long FULL_DELAY_MS = 3000;
+    // 스트리밍: 첫 토큰까지 지연, 이후 조각 간격
+    private static final long STREAM_FIRST_TOKEN_MS = 500;
+    private static final long STREAM_CHUNK_INTERVAL_MS = 80;
+    // 압축 요청 본문 지원 여부 (-Dgameadvisor.standin.compression=false 면 415로 거절하여 비압축 재전송 확인)
+    private static final boolean ACCEPT_COMPRESSED =
+        Boolean.parseBoolean(System.getProperty("gameadvisor.standin.compression", "true"));
+    // Smile 본문 지원 여부 (-Dgameadvisor.standin.smile=false 면 JSON으로만 응답하고 Smile 요청은 415로 거절)
+    private static final boolean ACCEPT_SMILE =
+        Boolean.parseBoolean(System.getProperty("gameadvisor.standin.smile", "true"));
+    private static final String SMILE = "application/x-jackson-smile";
+    // 게임 팁 버전 (-Dgameadvisor.standin.tipsVersion=2 처럼 올려 실행하면 클라이언트가 새 팁을 받는지 확인)
+    private static final long TIPS_VERSION = Long.getLong("gameadvisor.standin.tipsVersion", 1L);
+    // 푸시 채널 지원 여부 (-Dgameadvisor.standin.push=false 면 404로 거절하여 요청/응답 방식만 쓰는지 확인)
+    private static final boolean ACCEPT_PUSH =
+        Boolean.parseBoolean(System.getProperty("gameadvisor.standin.push", "true"));
+
+    /**
+     * 스트리밍 엔드포인트 응답 방식 (클라이언트 대체 경로 확인용)
+     */
+    public enum StreamMode {
+        // NDJSON 조각 스트리밍
+        NDJSON,
+        // 스트리밍 미지원 서버처럼 404
+        NOT_FOUND,
+        // 스트리밍을 무시하고 일반 JSON 본문 한 번에
+        WHOLE_BODY
+    }
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+    private final HttpServer server;
+    private final LocalStandInPushServer pushServer;
+    // 응답 지연 배율 (1.0 = 기본)
+    private final double delayScale;
+    // 받은 화면 분석 요청 수 (중복 요청 묶음 확인용)
+    private final AtomicInteger screenRequestCount = new AtomicInteger();
+    // 실패로 응답할 남은 화면 분석 요청 수와 상태 코드 (일시적인 서버 오류 재현용)
+    private final AtomicInteger screenFailuresRemaining = new AtomicInteger();
+    private volatile int screenFailureStatus;
+    private volatile StreamMode streamMode = StreamMode.NDJSON;
+    // quick 단계 응답의 needsFullFrame (false면 클라이언트가 원본 전송을 생략하는지 확인)
+    private volatile boolean quickNeedsFullFrame = true;
+    // 게임 목록 Last-Modified (서버 시작 시각, 초 단위)
+    private final String gamesLastModified =
+        DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).withNano(0));
+
+    public LocalStandInServer(int port) throws IOException {
+        this(port, 1.0);
+    }
+
+    public LocalStandInServer(int port, double delayScale) throws IOException {
+        this.delayScale = delayScale;
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/api/games", this::handleGames);
+        server.createContext("/api/advice/screen", this::handleScreenAdvice);
+        server.createContext("/api/advice/screen/sequence", this::handleSequenceAdvice);
+        server.createContext("/api/advice/screen/stream", this::handleStreamAdvice);
+        server.createContext("/api/push", this::handlePush);
+        pushServer = ACCEPT_PUSH ? new LocalStandInPushServer() : null;
+    }
+
+    public void start() {
+        server.start();
+        if (pushServer != null) {
+            pushServer.start();
+        }
+        System.out.println("[DEBUG] 로컬 대역 서버 시작: http://localhost:" + server.getAddress().getPort() + "/api" +
+            (delayScale != 1.0 ? " (지연 x" + delayScale + ")" : ""));
+    }
+
+    public void stop() {
+        server.stop(0);
+        if (pushServer != null) {
+            pushServer.stop();
+        }
+    }
+
+    /**
+     * 푸시 채널로 조언 전송 (gameName이 null이면 모든 게임 대상)
+     */
+    public void pushAdvice(String gameName, String message) {
+        if (pushServer != null) {
+            pushServer.broadcast(pushServer.advice(gameName, message));
+        }
+    }
+
+    /**
+     * 푸시 채널로 게임 목록 변경 알림
+     */
+    public void pushCatalogChanged() {
+        if (pushServer != null) {
+            pushServer.broadcast(pushServer.catalog());
+        }
+    }
+
+    /**
+     * 푸시 연결을 모두 끊음 (클라이언트 재연결 확인용)
+     */
+    public void dropPushConnections() {
+        if (pushServer != null) {
+            pushServer.dropAll();
+        }
+    }
+
+    public int getPushConnectionCount() {
+        return pushServer != null ? pushServer.connectionCount() : 0;
+    }
+
+    /**
+     * 이후 화면 분석 요청 count건을 status로 실패 응답 (요청 수에는 포함하지 않음)
+     */
+    public void failScreenRequests(int status, int count) {
+        screenFailureStatus = status;
+        screenFailuresRemaining.set(count);
+    }
+
+    public void setStreamMode(StreamMode streamMode) {
+        this.streamMode = streamMode;
+    }
+
+    public void setQuickNeedsFullFrame(boolean quickNeedsFullFrame) {
+        this.quickNeedsFullFrame = quickNeedsFullFrame;
+    }
+
+    public int getScreenRequestCount() {
+        return screenRequestCount.get();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private void handleGames(HttpExchange exchange) throws IOException {
+        String[] path = exchange.getRequestURI().getPath().split("/");
+        // /api/games/{id}/tips
+        if (path.length == 5 && "tips".equals(path[4])) {
+            handleTips(exchange, path[3]);
+            return;
+        }
+        ArrayNode games = mapper.createArrayNode();
+        games.add(game(1, "BloonsTD", "블룬스 TD 6", "BloonsTD6.exe"));
+        games.add(game(2, "MasterDuel", "유희왕 마스터 듀얼", "masterduel.exe"));
+        boolean smile = wantsSmile(exchange);
+        byte[] body = (smile ? smileMapper : mapper).writeValueAsBytes(games);
+
+        // 조건부 요청 지원: 본문 해시를 ETag로, 서버 시작 시각을 Last-Modified로 사용 (형식별로 본문이 달라 Vary: Accept)
+        String etag = "\"" + Integer.toHexString(Arrays.hashCode(body)) + "\"";
+        exchange.getResponseHeaders().set("Vary", "Accept");
+        exchange.getResponseHeaders().set("ETag", etag);
+        exchange.getResponseHeaders().set("Last-Modified", gamesLastModified);
+        exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+
+        String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+        String ifModifiedSince = exchange.getRequestHeaders().getFirst("If-Modified-Since");
+        boolean notModified = ifNoneMatch != null
+            ? ifNoneMatch.contains(etag)
+            : gamesLastModified.equals(ifModifiedSince);
+        if (notModified) {
+            System.out.println("[DEBUG] 대역 서버 게임 목록: 변경 없음 (304)");
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+        sendBody(exchange, 200, body, smile);
+    }
+
+    private void handleTips(HttpExchange exchange, String gameId) throws IOException {
+        ObjectNode tips = mapper.createObjectNode();
+        ArrayNode list = tips.putArray("tips");
+        switch (gameId) {
+            case "1":
+                list.add("보스 풍선 라운드 전에는 돈을 모아 두고 지원 타워를 먼저 올려 두세요! 🎈");
+                list.add("위장 풍선은 감지 능력이 있는 타워가 있어야 터뜨릴 수 있어요! 👀");
+                break;
+            case "2":
+                list.add("상대 덱의 패 트랩 타이밍을 기억해 두면 전개가 편해져요! 🃏");
+                list.add("듀얼 시작 전 덱 레시피의 핵심 카드를 한 번 더 확인해 보세요! 📋");
+                break;
+            default:
+                sendJson(exchange, 404, new byte[0]);
+                return;
+        }
+        tips.put("gameId", Long.parseLong(gameId));
+        tips.put("version", TIPS_VERSION);
+
+        // 팁 버전을 ETag로 사용 (버전이 같으면 304)
+        String etag = "\"tips-" + gameId + "-v" + TIPS_VERSION + "\"";
+        exchange.getResponseHeaders().set("Vary", "Accept");
+        exchange.getResponseHeaders().set("ETag", etag);
+        exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+        String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+        if (ifNoneMatch != null && ifNoneMatch.contains(etag)) {
+            System.out.println("[DEBUG] 대역 서버 게임 팁: 변경 없음 (304)");
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+        sendNode(exchange, 200, tips);
+    }
+
+    /**
+     * 웹소켓 핸드셰이크를 푸시 서버 포트로 리다이렉트 (HttpServer는 연결 업그레이드 불가)
+     */
+    private void handlePush(HttpExchange exchange) throws IOException {
+        if (pushServer == null) {
+            sendJson(exchange, 404, new byte[0]);
+            return;
+        }
+        exchange.getResponseHeaders().set("Location", "http://127.0.0.1:" + pushServer.getPort() + "/api/push");
+        exchange.sendResponseHeaders(307, -1);
+        exchange.close();
+    }
+
+    private ObjectNode game(long id, String name, String displayName, String processName) {
+        ObjectNode game = mapper.createObjectNode();
+        game.put("id", id);
+        game.put("name", name);
+        game.put("displayName", displayName);
+        game.put("processName", processName);
+        game.put("vectorTableName", name.toLowerCase() + "_vectors");
+        game.put("isActive", true);
+        game.put("tipsVersion", TIPS_VERSION);
+        return game;
+    }
+
+    private void handleScreenAdvice(HttpExchange exchange) throws IOException {
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            sendJson(exchange, 405, new byte[0]);
+            return;
+        }
+
+        JsonNode request = readTree(exchange);
+        if (request == null) return;
+        if (screenFailuresRemaining.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+            System.out.println("[DEBUG] 대역 서버(" + getPort() + ") 분석 실패 응답: " + screenFailureStatus);
+            sendJson(exchange, screenFailureStatus, new byte[0]);
+            return;
+        }
+        String phase = request.path("analysisPhase").asText("full");
+        String gameName = request.path("gameName").asText("unknown");
+        int imageBytes = imageBytes(request);
+        boolean quick = "quick".equals(phase);
+
+        sleep(quick ? QUICK_DELAY_MS : FULL_DELAY_MS);
+
+        ObjectNode response = mapper.createObjectNode();
+        response.put("success", true);
+        response.put("characterName", "Advisor");
+        response.put("gameContext", gameName);
+        response.put("timestamp", LocalDateTime.now().toString());
+        response.put("analysis", quick
+            ? "[quick] " + gameName + " 썸네일(" + imageBytes + " bytes) 기준 빠른 조언입니다."
+            : "[full] " + gameName + " 원본(" + imageBytes + " bytes, " + request.path("imageFormat").asText("png") + ") 기준 상세 공략입니다.");
+        if (quick) {
+            response.put("needsFullFrame", quickNeedsFullFrame);
+        }
+        System.out.println("[DEBUG] 대역 서버(" + getPort() + ") 분석 응답 #" + screenRequestCount.incrementAndGet() +
+            ": phase=" + phase + ", image=" + imageBytes + " bytes" + (request.has("image") ? " (Smile)" : ""));
+        sendNode(exchange, 200, response);
+    }
+
+    /**
+     * NDJSON 스트리밍 응답 ({"delta": "..."} 여러 줄 후 {"done": true, ...})
+     */
+    private void handleStreamAdvice(HttpExchange exchange) throws IOException {
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            sendJson(exchange, 405, new byte[0]);
+            return;
+        }
+        if (streamMode == StreamMode.WHOLE_BODY) {
+            handleScreenAdvice(exchange);
+            return;
+        }
+
+        JsonNode request = readTree(exchange);
+        if (request == null) return;
+        if (streamMode == StreamMode.NOT_FOUND) {
+            sendJson(exchange, 404, new byte[0]);
+            return;
+        }
+        String gameName = request.path("gameName").asText("unknown");
+        int imageBytes = imageBytes(request);
+        String analysis = "[stream] " + gameName + " 원본(" + imageBytes + " bytes) 기준 상세 공략입니다. " +
+            "1. 현재 상황을 먼저 정리하고 2. 다음 행동을 단계별로 안내하며 3. 주의할 점을 알려드려요! 🎮";
+
+        exchange.getResponseHeaders().set("Content-Type", "application/x-ndjson; charset=utf-8");
+        advertiseEncodings(exchange);
+        // 길이 0 = chunked 전송
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            sleep(STREAM_FIRST_TOKEN_MS);
+            int chunkSize = 6;
+            for (int i = 0; i < analysis.length(); ) {
+                int end = Math.min(analysis.length(), i + chunkSize);
+                // 이모지(서로게이트 쌍)가 조각 경계에서 잘리지 않도록
+                if (end < analysis.length() && Character.isHighSurrogate(analysis.charAt(end - 1))) end++;
+                ObjectNode delta = mapper.createObjectNode();
+                delta.put("delta", analysis.substring(i, end));
+                i = end;
+                out.write(mapper.writeValueAsBytes(delta));
+                out.write('\n');
+                out.flush();
+                sleep(STREAM_CHUNK_INTERVAL_MS);
+            }
+
+            ObjectNode done = mapper.createObjectNode();
+            done.put("done", true);
+            done.put("success", true);
+            done.put("characterName", "Advisor");
+            done.put("gameContext", gameName);
+            done.put("timestamp", LocalDateTime.now().toString());
+            out.write(mapper.writeValueAsBytes(done));
+            out.write('\n');
+            System.out.println("[DEBUG] 대역 서버 스트리밍 응답 완료: " + analysis.length() + "자");
+        } catch (IOException e) {
+            // 클라이언트가 취소한 경우
+            System.out.println("[DEBUG] 대역 서버 스트리밍 중단: " + e.getMessage());
+        }
+        exchange.close();
+    }
+
+    /**
+     * 연속 프레임 요청을 실제로 복원하여 프레임 간 변화량을 응답에 포함 (코덱 검증용)
+     */
+    private void handleSequenceAdvice(HttpExchange exchange) throws IOException {
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            sendJson(exchange, 405, new byte[0]);
+            return;
+        }
+
+        ScreenSequenceRequest request;
+        try (InputStream in = requestBody(exchange)) {
+            if (in == null) return;
+            request = mapper.readValue(in, ScreenSequenceRequest.class);
+        }
+
+        List<BufferedImage> frames;
+        try {
+            frames = FrameSequenceCodec.decode(request);
+        } catch (IOException e) {
+            sendJson(exchange, 400, mapper.writeValueAsBytes(error(e.getMessage())));
+            return;
+        }
+
+        // 프레임별 직전 프레임 대비 평균 밝기 변화량
+        StringBuilder motion = new StringBuilder();
+        byte[] previous = null;
+        for (BufferedImage frame : frames) {
+            int[] pixels = PixelKernels.pixels(frame);
+            byte[] luma = new byte[pixels.length];
+            PixelKernels.toLuma(pixels, luma);
+            if (previous != null) {
+                if (motion.length() > 0) motion.append(", ");
+                motion.append(String.format("%.3f", PixelKernels.meanAbsDiff(previous, luma)));
+            }
+            previous = luma;
+        }
+
+        sleep(FULL_DELAY_MS);
+
+        ObjectNode response = mapper.createObjectNode();
+        response.put("success", true);
+        response.put("characterName", "Advisor");
+        response.put("gameContext", request.getGameName());
+        response.put("timestamp", LocalDateTime.now().toString());
+        response.put("analysis", "[sequence] " + request.getGameName() + " " + frames.size() + "프레임 (" +
+            request.getFrameWidth() + "x" + request.getFrameHeight() + ", " + request.getIntervalMillis() +
+            "ms 간격) 기준 흐름 분석입니다. 프레임 변화량: " + motion);
+        System.out.println("[DEBUG] 대역 서버 연속 분석 응답: " + frames.size() + "프레임, 변화량 " + motion);
+        sendNode(exchange, 200, response);
+    }
+
+    private ObjectNode error(String message) {
+        ObjectNode response = mapper.createObjectNode();
+        response.put("success", false);
+        response.put("errorMessage", message);
+        return response;
+    }
+
+    /**
+     * Content-Encoding에 맞게 요청 본문을 풀어서 반환 (지원하지 않으면 415 응답 후 null)
+     */
+    private InputStream requestBody(HttpExchange exchange) throws IOException {
+        InputStream in = exchange.getRequestBody();
+        String encoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+        if (encoding == null || "identity".equalsIgnoreCase(encoding)) {
+            return in;
+        }
+        if (ACCEPT_COMPRESSED && "gzip".equalsIgnoreCase(encoding)) {
+            return new GZIPInputStream(in);
+        }
+        if (ACCEPT_COMPRESSED && "deflate".equalsIgnoreCase(encoding)) {
+            return new InflaterInputStream(in);
+        }
+        System.out.println("[DEBUG] 대역 서버 압축 본문 거절: " + encoding);
+        in.readAllBytes();
+        in.close();
+        sendJson(exchange, 415, new byte[0]);
+        return null;
+    }
+
+    /**
+     * 분석 요청 본문을 JSON 트리로 (압축을 먼저 풀고, Smile 본문이면 Smile로 파싱, 지원하지 않으면 415 응답 후 null)
+     */
+    private JsonNode readTree(HttpExchange exchange) throws IOException {
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        boolean smile = contentType != null && contentType.startsWith(SMILE);
+        try (InputStream in = requestBody(exchange)) {
+            if (in == null) return null;
+            if (smile && !ACCEPT_SMILE) {
+                System.out.println("[DEBUG] 대역 서버 Smile 본문 거절");
+                in.readAllBytes();
+                sendJson(exchange, 415, new byte[0]);
+                return null;
+            }
+            return (smile ? smileMapper : mapper).readTree(in);
+        }
+    }
+
+    /**
+     * 이미지 크기 (Smile은 image 바이너리, JSON은 imageBase64 문자열)
+     */
+    private static int imageBytes(JsonNode request) throws IOException {
+        JsonNode image = request.get("image");
+        if (image != null && image.isBinary()) {
+            return image.binaryValue().length;
+        }
+        return request.path("imageBase64").asText("").length() * 3 / 4;
+    }
+
+    private boolean wantsSmile(HttpExchange exchange) {
+        String accept = exchange.getRequestHeaders().getFirst("Accept");
+        return ACCEPT_SMILE && accept != null && accept.contains(SMILE);
+    }
+
+    /**
+     * Accept에 Smile이 있으면 Smile로, 아니면 JSON으로 응답
+     */
+    private void sendNode(HttpExchange exchange, int status, JsonNode node) throws IOException {
+        boolean smile = wantsSmile(exchange);
+        sendBody(exchange, status, (smile ? smileMapper : mapper).writeValueAsBytes(node), smile);
+    }
+
+    /**
+     * 응답 헤더로 요청 본문 압축 지원 알림
+     */
+    private void advertiseEncodings(HttpExchange exchange) {
+        if (ACCEPT_COMPRESSED) {
+            exchange.getResponseHeaders().set("Accept-Encoding", "gzip, deflate");
+        }
+    }
+
+    private void sendJson(HttpExchange exchange, int status, byte[] body) throws IOException {
+        sendBody(exchange, status, body, false);
+    }
+
+    private void sendBody(HttpExchange exchange, int status, byte[] body, boolean smile) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", smile ? SMILE : "application/json; charset=utf-8");
+        advertiseEncodings(exchange);
+        boolean head = "HEAD".equals(exchange.getRequestMethod());
+        exchange.sendResponseHeaders(status, head || body.length == 0 ? -1 : body.length);
+        if (!head && body.length > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+        exchange.close();
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep((long) (millis * delayScale));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        double delayScale = args.length > 1 ? Double.parseDouble(args[1]) : 1.0;
+        new LocalStandInServer(port, delayScale).start();
+    }
+}
@@ -0,0 +1,109 @@
+package com.gameadvisor.client.network;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 푸시 채널 재연결 백오프와 핸드셰이크 거절 처리를 로컬 대역 서버로 확인
+ */
+class PushChannelTest {
+
+    private static final long BASE_DELAY_MS = 20;
+    private static final long MAX_DELAY_MS = 80;
+
+    private LocalStandInServer server;
+    private PushChannel channel;
+
+    @AfterEach
+    void tearDown() {
+        if (channel != null) {
+            channel.stop();
+        }
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    @Test
+    void reconnectDelayDoublesUntilMax() {
+        long base = 1000;
+        long max = 60_000;
+        for (int attempt = 0; attempt < 10; attempt++) {
+            long cap = Math.min(max, base << attempt);
+            for (int i = 0; i < 200; i++) {
+                long delay = PushChannel.reconnectDelayMillis(attempt, base, max);
+                assertTrue(delay >= cap / 2 && delay <= cap, "시도 " + attempt + ": " + delay + "ms");
+            }
+        }
+        // 시도 수가 커도 상한을 넘지 않음
+        assertTrue(PushChannel.reconnectDelayMillis(1000, base, max) <= max);
+    }
+
+    @Test
+    void deadServerKeepsRetryingWithBackoff() throws Exception {
+        int deadPort;
+        try (ServerSocket socket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            deadPort = socket.getLocalPort();
+        }
+        channel = newChannel("http://127.0.0.1:" + deadPort + "/api/push");
+        channel.start();
+
+        await(() -> channel.getAttempts() >= 3);
+        assertTrue(channel.isRunning());
+        assertFalse(channel.isConnected());
+        assertEquals(0, channel.getConnectCount());
+    }
+
+    @Test
+    void reconnectsAfterConnectionDrop() throws Exception {
+        server = new LocalStandInServer(0);
+        server.start();
+        channel = newChannel("http://127.0.0.1:" + server.getPort() + "/api/push");
+        channel.start();
+        await(() -> channel.isConnected() && server.getPushConnectionCount() == 1);
+
+        server.dropPushConnections();
+        await(() -> channel.getConnectCount() == 2 && channel.isConnected());
+        // 다시 연결되면 백오프 초기화
+        assertEquals(0, channel.getAttempts());
+        assertTrue(channel.isRunning());
+    }
+
+    @Test
+    void rejectedHandshakeStopsChannel() throws Exception {
+        server = new LocalStandInServer(0);
+        server.start();
+        // 대역 서버에 없는 경로는 404
+        channel = newChannel("http://127.0.0.1:" + server.getPort() + "/nope/push");
+        channel.start();
+
+        await(() -> !channel.isRunning());
+        Thread.sleep(MAX_DELAY_MS * 2);
+        // 재연결을 예약하지 않음
+        assertFalse(channel.isRunning());
+        assertFalse(channel.isConnected());
+        assertEquals(0, channel.getAttempts());
+        assertEquals(0, channel.getConnectCount());
+    }
+
+    private static PushChannel newChannel(String url) {
+        return new PushChannel(true, () -> url, BASE_DELAY_MS, MAX_DELAY_MS);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "5초 안에 조건을 만족하지 않음");
+            Thread.sleep(10);
+        }
+    }
+}
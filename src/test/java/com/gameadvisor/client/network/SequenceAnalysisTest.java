@@ -0,0 +1,85 @@
+package com.gameadvisor.client.network;
+
+import com.gameadvisor.client.model.ScreenAnalysisResponse;
+import com.gameadvisor.client.model.ScreenSequenceRequest;
+import com.gameadvisor.client.util.FrameSequenceCodec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 연속 화면(멀티 프레임) 업로드를 로컬 대역 서버로 확인 (서버가 페이로드를 디코딩해 프레임 수/크기로 응답)
+ */
+class SequenceAnalysisTest {
+
+    // 대역 서버 상세 분석 지연(3초)을 30ms로 줄임
+    private static final double DELAY_SCALE = 0.01;
+    private static final int FRAMES = 3;
+
+    private LocalStandInServer server;
+    private ApiClient apiClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new LocalStandInServer(0, DELAY_SCALE);
+        server.start();
+        apiClient = StandInApiClients.connectTo(server);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    void sequenceIsDecodedByServer() throws Exception {
+        ScreenSequenceRequest request = new ScreenSequenceRequest("BloonsTD", "흐름 분석");
+        request.setIntervalMillis(250);
+        FrameSequenceCodec.encode(frames(), request);
+
+        ScreenAnalysisResponse response = apiClient.analyzeScreenSequence(request);
+
+        assertTrue(response.isSuccess());
+        assertTrue(response.getAnalysis().startsWith("[sequence] BloonsTD 3프레임 (32x24, 250ms 간격)"), response.getAnalysis());
+        // 프레임마다 밝기가 바뀌므로 변화량 2개가 모두 0보다 큼
+        String motion = response.getAnalysis().substring(response.getAnalysis().indexOf("변화량: ") + 5);
+        assertEquals(FRAMES - 1, motion.split(", ").length);
+        assertFalse(motion.contains("0.000"), motion);
+    }
+
+    @Test
+    void corruptPayloadIsRejected() throws Exception {
+        ScreenSequenceRequest request = new ScreenSequenceRequest("BloonsTD", "손상");
+        FrameSequenceCodec.encode(frames(), request);
+        request.setEncoding("raw");
+
+        ApiClient.HttpStatusException e = assertThrows(ApiClient.HttpStatusException.class,
+            () -> apiClient.analyzeScreenSequence(request));
+        assertEquals(400, e.getCode());
+    }
+
+    private static List<BufferedImage> frames() {
+        List<BufferedImage> frames = new ArrayList<>();
+        for (int f = 0; f < FRAMES; f++) {
+            BufferedImage frame = new BufferedImage(32, 24, BufferedImage.TYPE_INT_RGB);
+            int gray = 40 + f * 80;
+            for (int y = 0; y < 24; y++) {
+                for (int x = 0; x < 32; x++) {
+                    frame.setRGB(x, y, gray << 16 | gray << 8 | gray);
+                }
+            }
+            frames.add(frame);
+        }
+        return frames;
+    }
+}
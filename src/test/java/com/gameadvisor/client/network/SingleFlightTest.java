@@ -0,0 +1,191 @@
+package com.gameadvisor.client.network;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gameadvisor.client.model.ScreenAnalysisRequest;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 동일한 화면 분석 요청 묶음(SingleFlight + AnalysisKey)을 로컬 대역 서버에 보내 확인
+ */
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+    // 대역 서버 상세 분석 지연(3초)을 600ms로 줄여 요청이 겹치는 동안 합류하도록 함
+    private static final double DELAY_SCALE = 0.2;
+    private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+
+    private final OkHttpClient client = new OkHttpClient();
+    private final ObjectMapper mapper = new ObjectMapper();
+    private LocalStandInServer server;
+    private SingleFlight<AnalysisKey, String> flights;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new LocalStandInServer(0, DELAY_SCALE);
+        server.start();
+        flights = new SingleFlight<>("테스트 요청 묶음");
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+        client.dispatcher().executorService().shutdown();
+        client.connectionPool().evictAll();
+    }
+
+    @Test
+    void concurrentIdenticalRequestsReachServerOnce() throws Exception {
+        ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<CompletableFuture<String>>> submitted = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                submitted.add(callers.submit(() -> {
+                    start.await();
+                    // 호출자마다 내용이 같은 별도의 요청 객체
+                    ScreenAnalysisRequest request = request(42L);
+                    return flights.execute(AnalysisKey.of(request), () -> send(request));
+                }));
+            }
+            start.countDown();
+
+            List<String> results = new ArrayList<>();
+            for (Future<CompletableFuture<String>> future : submitted) {
+                results.add(future.get(5, TimeUnit.SECONDS).get(5, TimeUnit.SECONDS));
+            }
+
+            assertEquals(1, server.getScreenRequestCount());
+            assertEquals(1, flights.getStartedCount());
+            assertEquals(CALLERS - 1, flights.getJoinedCount());
+            for (String result : results) {
+                assertEquals(results.get(0), result);
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void cancellingOneWaiterKeepsOthersWaiting() throws Exception {
+        List<CompletableFuture<String>> views = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            ScreenAnalysisRequest request = request(42L);
+            views.add(flights.execute(AnalysisKey.of(request), () -> send(request)));
+        }
+
+        CompletableFuture<String> cancelled = views.get(0);
+        assertTrue(cancelled.cancel(true));
+
+        for (CompletableFuture<String> view : views.subList(1, views.size())) {
+            assertTrue(view.get(5, TimeUnit.SECONDS).contains("\"success\":true"));
+        }
+        assertThrows(CancellationException.class, cancelled::join);
+        assertEquals(1, server.getScreenRequestCount());
+    }
+
+    @Test
+    void cancellingAllWaitersCancelsCall() throws Exception {
+        List<CompletableFuture<String>> calls = new ArrayList<>();
+        List<CompletableFuture<String>> views = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            ScreenAnalysisRequest request = request(42L);
+            views.add(flights.execute(AnalysisKey.of(request), () -> {
+                CompletableFuture<String> call = send(request);
+                calls.add(call);
+                return call;
+            }));
+        }
+        for (CompletableFuture<String> view : views.subList(0, CALLERS - 1)) {
+            view.cancel(true);
+        }
+        assertEquals(1, calls.size());
+        assertFalse(calls.get(0).isDone());
+
+        views.get(CALLERS - 1).cancel(true);
+        assertTrue(calls.get(0).isCancelled());
+
+        // 대기자가 모두 떠나 취소된 호출에는 합류하지 않고 새로 전송
+        ScreenAnalysisRequest request = request(42L);
+        String result = flights.execute(AnalysisKey.of(request), () -> send(request)).get(5, TimeUnit.SECONDS);
+        assertTrue(result.contains("\"success\":true"));
+        assertEquals(2, flights.getStartedCount());
+    }
+
+    @Test
+    void differentFramesAreSentSeparately() throws Exception {
+        ScreenAnalysisRequest first = request(42L);
+        ScreenAnalysisRequest second = request(43L);
+        CompletableFuture<String> a = flights.execute(AnalysisKey.of(first), () -> send(first));
+        CompletableFuture<String> b = flights.execute(AnalysisKey.of(second), () -> send(second));
+
+        a.get(5, TimeUnit.SECONDS);
+        b.get(5, TimeUnit.SECONDS);
+        assertEquals(2, server.getScreenRequestCount());
+        assertEquals(0, flights.getJoinedCount());
+    }
+
+    private static ScreenAnalysisRequest request(long frameHash) {
+        ScreenAnalysisRequest request = new ScreenAnalysisRequest("AAAA", "BloonsTD", "지금 뭘 해야 해?");
+        request.setFrameHash(frameHash);
+        return request;
+    }
+
+    /**
+     * 대역 서버에 분석 요청 (future가 먼저 끝나면 호출 취소)
+     */
+    private CompletableFuture<String> send(ScreenAnalysisRequest analysisRequest) {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        Request request;
+        try {
+            request = new Request.Builder()
+                    .url("http://127.0.0.1:" + server.getPort() + "/api/advice/screen")
+                    .post(RequestBody.create(mapper.writeValueAsBytes(analysisRequest), JSON))
+                    .build();
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        Call call = client.newCall(request);
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                future.completeExceptionally(e);
+            }
+
+            @Override
+            public void onResponse(Call call, Response response) throws IOException {
+                try (response) {
+                    future.complete(response.body().string());
+                }
+            }
+        });
+        future.whenComplete((result, error) -> {
+            if (error != null) call.cancel();
+        });
+        return future;
+    }
+}
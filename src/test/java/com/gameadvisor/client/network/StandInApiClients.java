@@ -0,0 +1,23 @@
+package com.gameadvisor.client.network;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 로컬 대역 서버에 연결하는 테스트용 ApiClient (다른 패키지의 테스트에서 사용)
+ * 결과 캐시는 끄고, 서버 선택은 주어진 대역 서버만으로 구성
+ */
+public final class StandInApiClients {
+
+    private StandInApiClients() {
+    }
+
+    public static ApiClient connectTo(LocalStandInServer... servers) {
+        List<String> baseUrls = new ArrayList<>();
+        for (LocalStandInServer server : servers) {
+            baseUrls.add("http://127.0.0.1:" + server.getPort() + "/api");
+        }
+        return new ApiClient(new EndpointSelector(baseUrls), new AnalysisResultCache(Path.of("unused-analysis-cache.json"), 0));
+    }
+}
@@ -0,0 +1,81 @@
+package com.gameadvisor.client.network;
+
+import com.gameadvisor.client.model.ScreenAnalysisRequest;
+import com.gameadvisor.client.model.ScreenAnalysisResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * NDJSON 스트리밍 분석과 대체 경로(스트리밍 미지원 404, 일반 JSON 응답)를 로컬 대역 서버로 확인
+ */
+class StreamingAnalysisTest {
+
+    // 대역 서버 지연(첫 토큰 500ms, 조각 간격 80ms, full 3초)을 1/100로 줄임
+    private static final double DELAY_SCALE = 0.01;
+    private static final long TIMEOUT_MS = 10_000;
+
+    private LocalStandInServer server;
+    private ApiClient apiClient;
+    private final List<String> deltas = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new LocalStandInServer(0, DELAY_SCALE);
+        server.start();
+        apiClient = StandInApiClients.connectTo(server);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    void deltasAreDeliveredAndJoinedIntoResponse() throws Exception {
+        ScreenAnalysisResponse response = apiClient.analyzeScreenStreamAsync(request("스트리밍"), deltas::add, TIMEOUT_MS).get();
+
+        assertTrue(response.isSuccess());
+        assertTrue(response.getAnalysis().startsWith("[stream]"), response.getAnalysis());
+        assertTrue(deltas.size() > 1, "조각 " + deltas.size() + "개");
+        assertEquals(response.getAnalysis(), String.join("", deltas));
+    }
+
+    @Test
+    void missingStreamingEndpointFailsWithStreamingUnsupported() throws Exception {
+        server.setStreamMode(LocalStandInServer.StreamMode.NOT_FOUND);
+        ExecutionException e = assertThrows(ExecutionException.class,
+            () -> apiClient.analyzeScreenStreamAsync(request("미지원"), deltas::add, TIMEOUT_MS).get());
+        assertInstanceOf(ApiClient.StreamingUnsupportedException.class, e.getCause());
+        assertTrue(deltas.isEmpty());
+
+        // 이 예외를 받으면 일반 분석으로 전환
+        ScreenAnalysisResponse response = apiClient.analyzeScreenAsync(request("미지원"), TIMEOUT_MS).get();
+        assertTrue(response.getAnalysis().startsWith("[full]"), response.getAnalysis());
+    }
+
+    @Test
+    void wholeJsonBodyIsDeliveredAsSingleDelta() throws Exception {
+        server.setStreamMode(LocalStandInServer.StreamMode.WHOLE_BODY);
+        ScreenAnalysisResponse response = apiClient.analyzeScreenStreamAsync(request("일반 응답"), deltas::add, TIMEOUT_MS).get();
+
+        assertTrue(response.getAnalysis().startsWith("[full]"), response.getAnalysis());
+        assertEquals(List.of(response.getAnalysis()), deltas);
+    }
+
+    private static ScreenAnalysisRequest request(String context) {
+        ScreenAnalysisRequest request = new ScreenAnalysisRequest(new byte[64], "BloonsTD", context);
+        request.setImageFormat("png");
+        return request;
+    }
+}
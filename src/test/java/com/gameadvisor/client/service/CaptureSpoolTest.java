@@ -0,0 +1,85 @@
+package com.gameadvisor.client.service;
+
+import com.gameadvisor.client.model.ScreenAnalysisRequest;
+import com.gameadvisor.client.model.ScreenAnalysisResponse;
+import com.gameadvisor.client.network.ApiClient;
+import com.gameadvisor.client.network.LocalStandInServer;
+import com.gameadvisor.client.network.StandInApiClients;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 캡쳐 스풀 재전송을 로컬 대역 서버로 확인 (일시적인 서버 오류는 보관, 거절은 폐기)
+ */
+class CaptureSpoolTest {
+
+    // 대역 서버 상세 분석 지연(3초)을 30ms로 줄임
+    private static final double DELAY_SCALE = 0.01;
+
+    @TempDir
+    Path directory;
+
+    private LocalStandInServer server;
+    private ApiClient apiClient;
+    private CaptureSpool spool;
+    private final List<ScreenAnalysisResponse> replayed = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new LocalStandInServer(0, DELAY_SCALE);
+        server.start();
+        apiClient = StandInApiClients.connectTo(server);
+        spool = new CaptureSpool(directory, 1024 * 1024);
+        spool.append(request("첫 번째"));
+        spool.append(request("두 번째"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    void serverErrorKeepsRecordForNextReplay() {
+        server.failScreenRequests(503, 1);
+        spool.replay(apiClient, replayed::add);
+
+        // 첫 레코드에서 중단하고 두 레코드 모두 보관
+        assertTrue(spool.hasPending());
+        assertEquals(0, server.getScreenRequestCount());
+        assertTrue(replayed.isEmpty());
+
+        spool.replay(apiClient, replayed::add);
+        assertFalse(spool.hasPending());
+        assertEquals(2, server.getScreenRequestCount());
+        assertEquals(2, replayed.size());
+    }
+
+    @Test
+    void rejectedRecordIsDiscarded() {
+        server.failScreenRequests(400, 1);
+        spool.replay(apiClient, replayed::add);
+
+        // 거절된 첫 레코드는 버리고 다음 레코드는 전송
+        assertFalse(spool.hasPending());
+        assertEquals(1, server.getScreenRequestCount());
+        assertEquals(1, replayed.size());
+    }
+
+    private static ScreenAnalysisRequest request(String context) {
+        ScreenAnalysisRequest request = new ScreenAnalysisRequest("AAAAAAAA", "BloonsTD", context);
+        request.setImageFormat("png");
+        return request;
+    }
+}
@@ -0,0 +1,84 @@
+package com.gameadvisor.client.service;
+
+import com.gameadvisor.client.model.ScreenAnalysisRequest;
+import com.gameadvisor.client.model.ScreenAnalysisResponse;
+import com.gameadvisor.client.network.ApiClient;
+import com.gameadvisor.client.network.LocalStandInServer;
+import com.gameadvisor.client.network.StandInApiClients;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 썸네일 우선 2단계 분석(quick -> full)을 로컬 대역 서버로 확인
+ */
+class ProgressiveAnalysisTest {
+
+    // 대역 서버 지연(quick 300ms, full 3초)을 3ms, 30ms로 줄임
+    private static final double DELAY_SCALE = 0.01;
+
+    private LocalStandInServer server;
+    private ProgressiveAnalysis progressive;
+    private final List<ScreenAnalysisResponse> quickResponses = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new LocalStandInServer(0, DELAY_SCALE);
+        server.start();
+        ApiClient apiClient = StandInApiClients.connectTo(server);
+        progressive = new ProgressiveAnalysis(apiClient::analyzeScreen, apiClient::analyzeScreen);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    void quickResultIsShownBeforeFullAnalysis() throws Exception {
+        ScreenAnalysisResponse response = progressive.analyze(
+            request(ScreenAnalysisRequest.PHASE_QUICK), request(ScreenAnalysisRequest.PHASE_FULL), quickResponses::add);
+
+        assertEquals(1, quickResponses.size());
+        assertTrue(quickResponses.get(0).getAnalysis().startsWith("[quick]"), quickResponses.get(0).getAnalysis());
+        assertTrue(response.getAnalysis().startsWith("[full]"), response.getAnalysis());
+        assertEquals(2, server.getScreenRequestCount());
+    }
+
+    @Test
+    void fullFrameIsSkippedWhenServerDoesNotNeedIt() throws Exception {
+        server.setQuickNeedsFullFrame(false);
+        ScreenAnalysisResponse response = progressive.analyze(
+            request(ScreenAnalysisRequest.PHASE_QUICK), request(ScreenAnalysisRequest.PHASE_FULL), quickResponses::add);
+
+        // 원본은 보내지 않고 1차 분석 결과로 완료
+        assertEquals(1, server.getScreenRequestCount());
+        assertEquals(List.of(response), quickResponses);
+        assertTrue(response.getAnalysis().startsWith("[quick]"), response.getAnalysis());
+    }
+
+    @Test
+    void quickFailureStillRequestsFullAnalysis() throws Exception {
+        server.failScreenRequests(503, 1);
+        ScreenAnalysisResponse response = progressive.analyze(
+            request(ScreenAnalysisRequest.PHASE_QUICK), request(ScreenAnalysisRequest.PHASE_FULL), quickResponses::add);
+
+        assertTrue(quickResponses.isEmpty());
+        assertTrue(response.getAnalysis().startsWith("[full]"), response.getAnalysis());
+        assertEquals(1, server.getScreenRequestCount());
+    }
+
+    private static ScreenAnalysisRequest request(String phase) {
+        ScreenAnalysisRequest request = new ScreenAnalysisRequest(new byte[64], "BloonsTD", phase + " 분석");
+        request.setAnalysisPhase(phase);
+        request.setImageFormat(ScreenAnalysisRequest.PHASE_QUICK.equals(phase) ? "jpeg" : "png");
+        return request;
+    }
+}
@@ -0,0 +1,105 @@
+package com.gameadvisor.client.util;
+
+import com.gameadvisor.client.model.ScreenSequenceRequest;
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 연속 프레임 코덱(indexed-xor-deflate) 인코딩 -> 디코딩 왕복 확인
+ */
+class FrameSequenceCodecTest {
+
+    private static final int WIDTH = 40;
+    private static final int HEIGHT = 30;
+    private static final int FRAMES = 4;
+
+    @Test
+    void roundTripRestoresFramesExactly() throws IOException {
+        // 색이 256개 이하이면 손실 없는 팔레트이므로 원본과 같아야 함
+        List<BufferedImage> frames = movingSquareFrames();
+        ScreenSequenceRequest request = new ScreenSequenceRequest("BloonsTD", "왕복");
+        FrameSequenceCodec.encode(frames, request);
+
+        assertEquals(FRAMES, request.getFrameCount());
+        assertEquals(WIDTH, request.getFrameWidth());
+        assertEquals(HEIGHT, request.getFrameHeight());
+        List<BufferedImage> decoded = FrameSequenceCodec.decode(request);
+        assertEquals(FRAMES, decoded.size());
+        for (int f = 0; f < FRAMES; f++) {
+            assertArrayEquals(rgb(frames.get(f)), rgb(decoded.get(f)), "프레임 " + f);
+        }
+    }
+
+    @Test
+    void roundTripKeepsManyColorFramesClose() throws IOException {
+        // 256색을 넘으면 양자화되므로 채널별 오차만 확인
+        Random random = new Random(42);
+        List<BufferedImage> frames = new ArrayList<>();
+        for (int f = 0; f < FRAMES; f++) {
+            BufferedImage frame = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+            for (int y = 0; y < HEIGHT; y++) {
+                for (int x = 0; x < WIDTH; x++) {
+                    frame.setRGB(x, y, (x * 6 + f) << 16 | (y * 8) << 8 | random.nextInt(16));
+                }
+            }
+            frames.add(frame);
+        }
+        ScreenSequenceRequest request = new ScreenSequenceRequest("BloonsTD", "양자화");
+        FrameSequenceCodec.encode(frames, request);
+
+        List<BufferedImage> decoded = FrameSequenceCodec.decode(request);
+        for (int f = 0; f < FRAMES; f++) {
+            int[] expected = rgb(frames.get(f));
+            int[] actual = rgb(decoded.get(f));
+            for (int i = 0; i < expected.length; i++) {
+                assertTrue(PixelKernels.isSimilar(expected[i], actual[i], 32),
+                    "프레임 " + f + " 픽셀 " + i + ": " + Integer.toHexString(expected[i]) + " -> " + Integer.toHexString(actual[i]));
+            }
+        }
+    }
+
+    @Test
+    void unsupportedEncodingIsRejected() throws IOException {
+        ScreenSequenceRequest request = new ScreenSequenceRequest("BloonsTD", "인코딩");
+        FrameSequenceCodec.encode(movingSquareFrames(), request);
+        request.setEncoding("raw");
+
+        assertThrows(IOException.class, () -> FrameSequenceCodec.decode(request));
+    }
+
+    /**
+     * 단색 배경 위에서 한 칸씩 움직이는 사각형 (직전 프레임과 대부분 같음)
+     */
+    private static List<BufferedImage> movingSquareFrames() {
+        List<BufferedImage> frames = new ArrayList<>();
+        for (int f = 0; f < FRAMES; f++) {
+            BufferedImage frame = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+            for (int y = 0; y < HEIGHT; y++) {
+                for (int x = 0; x < WIDTH; x++) {
+                    boolean square = x >= 5 + f * 3 && x < 15 + f * 3 && y >= 10 && y < 20;
+                    frame.setRGB(x, y, square ? 0xE04030 : (y < 5 ? 0x203040 : 0x55AA55));
+                }
+            }
+            frames.add(frame);
+        }
+        return frames;
+    }
+
+    private static int[] rgb(BufferedImage image) {
+        int[] pixels = image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+        for (int i = 0; i < pixels.length; i++) {
+            pixels[i] &= 0xFFFFFF;
+        }
+        return pixels;
+    }
+}
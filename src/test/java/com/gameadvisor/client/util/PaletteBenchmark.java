@@ -0,0 +1,99 @@
+package com.gameadvisor.client.util;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * 인덱스 컬러 PNG vs 기존 트루컬러 PNG 인코딩 벤치마크
+ * 녹화해 둔 게임 프레임(PNG/JPG) 폴더를 입력으로 크기와 인코딩 시간을 비교
+ *
+ * 사용법: java ... com.gameadvisor.client.util.PaletteBenchmark <프레임 폴더> [게임 이름] [반복 횟수]
+ */
+public class PaletteBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.out.println("사용법: PaletteBenchmark <프레임 폴더> [게임 이름] [반복 횟수]");
+            return;
+        }
+
+        File dir = new File(args[0]);
+        String gameName = args.length > 1 ? args[1] : "benchmark";
+        int iterations = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+
+        File[] frames = dir.listFiles((d, name) -> {
+            String lower = name.toLowerCase();
+            return lower.endsWith(".png") || lower.endsWith(".jpg") || lower.endsWith(".jpeg");
+        });
+        if (frames == null || frames.length == 0) {
+            System.out.println("프레임 파일이 없습니다: " + dir.getAbsolutePath());
+            return;
+        }
+        Arrays.sort(frames);
+
+        long totalTrueBytes = 0;
+        long totalIndexedBytes = 0;
+        long totalTrueNanos = 0;
+        long totalIndexedNanos = 0;
+
+        System.out.println(String.format("%-32s %12s %12s %8s %10s %10s",
+            "frame", "true(B)", "indexed(B)", "ratio", "true(ms)", "indexed(ms)"));
+
+        for (File frame : frames) {
+            BufferedImage image = ImageIO.read(frame);
+            if (image == null) continue;
+            // Robot 캡쳐 결과와 같은 TYPE_INT_RGB로 맞춤
+            BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+            rgb.getGraphics().drawImage(image, 0, 0, null);
+
+            // 워밍업
+            encodeTrueColor(rgb);
+            encodeIndexed(rgb, gameName);
+
+            int trueBytes = 0;
+            int indexedBytes = 0;
+            long trueNanos = 0;
+            long indexedNanos = 0;
+            for (int i = 0; i < iterations; i++) {
+                long start = System.nanoTime();
+                trueBytes = encodeTrueColor(rgb);
+                trueNanos += System.nanoTime() - start;
+
+                start = System.nanoTime();
+                indexedBytes = encodeIndexed(rgb, gameName);
+                indexedNanos += System.nanoTime() - start;
+            }
+            trueNanos /= iterations;
+            indexedNanos /= iterations;
+
+            totalTrueBytes += trueBytes;
+            totalIndexedBytes += indexedBytes;
+            totalTrueNanos += trueNanos;
+            totalIndexedNanos += indexedNanos;
+
+            System.out.println(String.format("%-32s %12d %12d %7.1f%% %10.1f %10.1f",
+                frame.getName(), trueBytes, indexedBytes, 100.0 * indexedBytes / trueBytes,
+                trueNanos / 1e6, indexedNanos / 1e6));
+        }
+
+        System.out.println(String.format("%-32s %12d %12d %7.1f%% %10.1f %10.1f",
+            "TOTAL", totalTrueBytes, totalIndexedBytes, 100.0 * totalIndexedBytes / Math.max(1, totalTrueBytes),
+            totalTrueNanos / 1e6, totalIndexedNanos / 1e6));
+    }
+
+    private static int encodeTrueColor(BufferedImage image) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", baos);
+        return baos.size();
+    }
+
+    private static int encodeIndexed(BufferedImage image, String gameName) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ImageIO.write(PaletteQuantizer.toIndexed(image, gameName), "png", baos);
+        return baos.size();
+    }
+}
@@ -0,0 +1,99 @@
+package com.gameadvisor.client.util;
+
+import java.awt.image.BufferedImage;
+import java.util.Random;
+
+/**
+ * PixelKernels 4K 프레임 처리 시간 측정
+ * 기존 방식(BufferedImage.getRGB 픽셀 단위 접근)과 공용 커널, Vector API 구현과 스칼라 구현을 비교
+ *
+ * 사용법: java --add-modules jdk.incubator.vector ... com.gameadvisor.client.util.PixelKernelBenchmark [반복 횟수]
+ * (모듈 없이 실행하면 스칼라 구현만 측정)
+ */
+public class PixelKernelBenchmark {
+
+    private static final int WIDTH = 3840;
+    private static final int HEIGHT = 2160;
+
+    // JIT가 결과를 제거하지 못하도록 누적
+    private static long sink;
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 50;
+
+        BufferedImage frame = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(42);
+        int[] pixels = PixelKernels.pixels(frame);
+        for (int i = 0; i < pixels.length; i++) {
+            pixels[i] = random.nextInt(0xFFFFFF);
+        }
+        byte[] luma = new byte[pixels.length];
+        byte[] lumaB = new byte[pixels.length];
+        byte[] thumb = new byte[64 * 36];
+
+        for (int i = 0; i < lumaB.length; i++) {
+            lumaB[i] = (byte) random.nextInt(256);
+        }
+        int[] uniform = new int[pixels.length];
+        java.util.Arrays.fill(uniform, 0x101010);
+
+        System.out.println("4K 프레임 (" + WIDTH + "x" + HEIGHT + "), 반복 " + iterations + "회, Vector API " +
+            (PixelKernels.VECTOR ? "사용" : "사용 안 함 (모듈 없음 또는 256비트 벡터 미지원)"));
+
+        run("getRGB 픽셀 단위 밝기 변환 (기존)", iterations, () -> {
+            long sum = 0;
+            for (int y = 0; y < HEIGHT; y++) {
+                for (int x = 0; x < WIDTH; x++) {
+                    sum += PixelKernels.luma(frame.getRGB(x, y));
+                }
+            }
+            sink += sum;
+        });
+        run("toLuma", iterations, () -> PixelKernels.toLuma(pixels, luma));
+        run("downscaleLuma 64x36", iterations, () -> {
+            PixelKernels.downscaleLuma(pixels, WIDTH, HEIGHT, thumb, 64, 36, 2);
+            sink += thumb[0];
+        });
+        run("meanAbsDiff (전체 해상도)", iterations, () -> sink += (long) (PixelKernels.meanAbsDiff(luma, lumaB) * 1000));
+        run("isUniformRow x 100행", iterations, () -> {
+            for (int y = 0; y < 100; y++) {
+                sink += PixelKernels.isUniformRow(pixels, WIDTH, y, 0, WIDTH, pixels[0], 255) ? 1 : 0;
+            }
+        });
+
+        // Vector API / 스칼라 구현 비교 (테두리 검사는 끝까지 훑도록 균일한 행으로 측정)
+        run("toLuma 스칼라", iterations, () -> PixelKernels.toLumaScalar(pixels, luma));
+        run("meanAbsDiff 스칼라", iterations, () -> sink += PixelKernels.sumAbsDiffScalar(luma, lumaB));
+        run("isUniformRow 균일 x 2160행 스칼라", iterations, () -> {
+            for (int y = 0; y < HEIGHT; y++) {
+                sink += PixelKernels.isUniformRowScalar(uniform, y * WIDTH, 0, WIDTH, 0x101010, 8) ? 1 : 0;
+            }
+        });
+        if (PixelKernels.VECTOR) {
+            run("toLuma 벡터", iterations, () -> VectorPixelKernels.toLuma(pixels, luma));
+            run("meanAbsDiff 벡터", iterations, () -> sink += VectorPixelKernels.sumAbsDiff(luma, lumaB));
+            run("isUniformRow 균일 x 2160행 벡터", iterations, () -> {
+                for (int y = 0; y < HEIGHT; y++) {
+                    sink += VectorPixelKernels.isUniformRow(uniform, y * WIDTH, 0, WIDTH, 0x101010, 8) ? 1 : 0;
+                }
+            });
+        }
+
+        run("differenceHash", iterations, () -> sink += PixelKernels.differenceHash(pixels, WIDTH, HEIGHT));
+
+        System.out.println("(sink=" + sink + ")");
+    }
+
+    private static void run(String name, int iterations, Runnable kernel) {
+        // 워밍업 (JIT 컴파일)
+        for (int i = 0; i < Math.max(5, iterations / 5); i++) {
+            kernel.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            kernel.run();
+        }
+        double millis = (System.nanoTime() - start) / 1e6 / iterations;
+        System.out.println(String.format("%-36s %8.3f ms", name, millis));
+    }
+}
@@ -0,0 +1,80 @@
+package com.gameadvisor.client.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Vector API 구현이 스칼라 구현과 같은 결과를 내는지 확인 (벡터 폭으로 나누어떨어지지 않는 길이 포함)
+ */
+class PixelKernelsTest {
+
+    private static final int[] LENGTHS = {0, 1, 7, 8, 9, 63, 64 * 36, 1000 + 5};
+
+    private final Random random = new Random(42);
+
+    @Test
+    void toLumaMatchesScalar() {
+        assumeVector();
+        for (int length : LENGTHS) {
+            int[] argb = randomPixels(length);
+            byte[] expected = new byte[length];
+            byte[] actual = new byte[length];
+            PixelKernels.toLumaScalar(argb, expected);
+            VectorPixelKernels.toLuma(argb, actual);
+            assertArrayEquals(expected, actual, "길이 " + length);
+        }
+    }
+
+    @Test
+    void sumAbsDiffMatchesScalar() {
+        assumeVector();
+        for (int length : LENGTHS) {
+            byte[] a = new byte[length];
+            byte[] b = new byte[length];
+            random.nextBytes(a);
+            random.nextBytes(b);
+            assertEquals(PixelKernels.sumAbsDiffScalar(a, b), VectorPixelKernels.sumAbsDiff(a, b), "길이 " + length);
+        }
+    }
+
+    @Test
+    void isUniformRowMatchesScalar() {
+        assumeVector();
+        int width = 37;
+        int color = 0x203040;
+        int[] argb = new int[width * 3];
+        Arrays.fill(argb, color);
+        // 둘째 행은 허용 오차 안의 색, 셋째 행은 마지막(스칼라 처리 구간) 픽셀만 다른 색
+        for (int x = 0; x < width; x++) {
+            argb[width + x] = color + 0x030303;
+        }
+        argb[width * 3 - 1] = 0xFF3040;
+        for (int y = 0; y < 3; y++) {
+            for (int xStart = 0; xStart < 10; xStart++) {
+                boolean expected = PixelKernels.isUniformRowScalar(argb, y * width, xStart, width, color, 8);
+                assertEquals(expected, VectorPixelKernels.isUniformRow(argb, y * width, xStart, width, color, 8),
+                    "행 " + y + ", 시작 " + xStart);
+            }
+        }
+        assertEquals(false, VectorPixelKernels.isUniformRow(argb, width * 2, 0, width, color, 8));
+    }
+
+    private int[] randomPixels(int length) {
+        int[] argb = new int[length];
+        for (int i = 0; i < length; i++) {
+            argb[i] = random.nextInt();
+        }
+        return argb;
+    }
+
+    private static void assumeVector() {
+        assumeTrue(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent(),
+            "--add-modules jdk.incubator.vector 없이 실행");
+    }
+}